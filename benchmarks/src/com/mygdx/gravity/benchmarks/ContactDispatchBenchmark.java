@@ -0,0 +1,95 @@
+package com.mygdx.gravity.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.mygdx.gravity.components.Families;
+import com.mygdx.gravity.components.Mappers;
+import com.mygdx.gravity.simulation.GameSimulation;
+import com.mygdx.gravity.utils.Constants;
+import com.mygdx.gravity.world.CollisionHandler;
+import com.mygdx.gravity.world.ContactEventQueue;
+import com.mygdx.gravity.world.FixtureData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of queuing and processing begin-contact events, replayed over the
+ * fixture pairs of live contacts. Boxes and enemies are piled up (the first
+ * pile on the player) and stepped once, so the pairs mix player/box/enemy
+ * contacts and grow with scale. Pairs are replayed from their FixtureData,
+ * since handlers may switch bodies off and free the Box2D contacts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ContactDispatchBenchmark {
+
+    @Param({"1", "5"})
+    public int level;
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private static final int PILE_SIZE = 8;
+
+    private GameSimulation simulation;
+    private CollisionHandler handler;
+    private FixtureData[] firsts;
+    private FixtureData[] seconds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LevelFixtures.initNatives();
+        simulation = LevelFixtures.simulation(LevelFixtures.level(level, scale));
+        Vector2 spawn = simulation.getPlayerBody().getPosition();
+        float x = spawn.x;
+        float y = spawn.y;
+        int i = 0;
+        // Enemies and boxes
+        for (Family family : new Family[] {Families.KILLABLES, Families.DAMPED}) {
+            ImmutableArray<Entity> entities = simulation.getEngine().getEntitiesFor(family);
+            for (int e = 0; e < entities.size(); e++) {
+                // Small piles of PILE_SIZE, so the contact count grows linearly with scale;
+                // the first pile sits on the player
+                int pile = i / PILE_SIZE;
+                int slot = i % PILE_SIZE;
+                Mappers.body.get(entities.get(e)).body
+                    .setTransform(x + pile * 3f + slot * 0.1f, y + slot * 0.1f, 0);
+                i++;
+            }
+        }
+        simulation.getPhysics().step(Constants.PHYSICS_TIME_STEP, 1f);
+        handler = simulation.getCollisionHandler();
+        handler.clearContacts();
+        Array<Contact> list = simulation.getPhysics().getWorld().getContactList();
+        firsts = new FixtureData[list.size];
+        seconds = new FixtureData[list.size];
+        for (int c = 0; c < list.size; c++) {
+            firsts[c] = (FixtureData) list.get(c).getFixtureA().getUserData();
+            seconds[c] = (FixtureData) list.get(c).getFixtureB().getUserData();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.dispose();
+    }
+
+    /** Queues a begin event for every contact and processes the batch. */
+    @Benchmark
+    public int beginContactAll() {
+        ContactEventQueue events = handler.getEvents();
+        for (int c = 0; c < firsts.length; c++) {
+            events.push(ContactEventQueue.BEGIN, firsts[c], seconds[c]);
+        }
+        handler.processContacts();
+        return handler.getLastEventCount();
+    }
+}
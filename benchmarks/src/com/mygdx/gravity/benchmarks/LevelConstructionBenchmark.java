@@ -0,0 +1,65 @@
+package com.mygdx.gravity.benchmarks;
+
+import com.mygdx.gravity.levels.LevelData;
+import com.mygdx.gravity.simulation.GameSimulation;
+import com.mygdx.gravity.simulation.PlayerInput;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building a level: into a fresh world with every body and fixture
+ * created from LevelData, and into a simulation that already ran a level, which
+ * reuses its world and bodies the way GameScreen does between levels.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LevelConstructionBenchmark {
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int level;
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private LevelData levelData;
+    private GameSimulation reused;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LevelFixtures.initNatives();
+        levelData = LevelFixtures.level(level, scale);
+        reused = LevelFixtures.simulation(levelData);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        reused.dispose();
+    }
+
+    /**
+     * In a game at least one step runs between two loads. The step also flushes
+     * the broad-phase move buffer, which would otherwise grow with every reload.
+     */
+    @Setup(Level.Invocation)
+    public void step() {
+        reused.tick(PlayerInput.NONE);
+    }
+
+    @Benchmark
+    public int createLevel() {
+        GameSimulation simulation = LevelFixtures.simulation(levelData);
+        int bodies = simulation.getPhysics().getWorld().getBodyCount();
+        simulation.dispose();
+        return bodies;
+    }
+
+    @Benchmark
+    public int reloadLevel() {
+        reused.loadLevel(levelData);
+        return reused.getPhysics().getWorld().getBodyCount();
+    }
+}
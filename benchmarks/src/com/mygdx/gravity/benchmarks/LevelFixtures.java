@@ -0,0 +1,74 @@
+package com.mygdx.gravity.benchmarks;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.mygdx.gravity.levels.LevelData;
+import com.mygdx.gravity.levels.LevelManager;
+import com.mygdx.gravity.simulation.GameSimulation;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Shared level setup for the benchmarks.
+ */
+final class LevelFixtures {
+    private LevelFixtures() {}
+
+    private static LevelManager levels;
+    private static int spikeTextureWidth = -1;
+    private static int spikeTextureHeight = -1;
+
+    static void initNatives() {
+        Box2D.init();
+    }
+
+    /**
+     * Returns the level (1-based) with its platforms, boxes and enemies tiled
+     * scale times along the x axis. Scale 1 returns the level unchanged.
+     */
+    static LevelData level(int level, int scale) {
+        LevelData base = levels().get(level - 1);
+        return scale <= 1 ? base : base.tiled(scale);
+    }
+
+    /** Level files from the assets dir (-Dgravity.assets); there is no Gdx.files here. */
+    private static LevelManager levels() {
+        if (levels == null) {
+            levels = new LevelManager(new FileHandle(new File(assetsDir(), LevelManager.DIRECTORY)));
+        }
+        return levels;
+    }
+
+    private static File assetsDir() {
+        return new File(System.getProperty("gravity.assets", "../assets"));
+    }
+
+    /** A simulation with the level loaded and spike hitboxes sized like GameScreen does. */
+    static GameSimulation simulation(LevelData level) {
+        GameSimulation simulation = new GameSimulation();
+        readSpikeTextureSize();
+        simulation.setSpikeTextureSize(spikeTextureWidth, spikeTextureHeight);
+        simulation.loadLevel(level);
+        return simulation;
+    }
+
+    /** Reads the spike sprite size from the PNG header (assets dir from -Dgravity.assets). */
+    private static void readSpikeTextureSize() {
+        if (spikeTextureWidth >= 0) return;
+        spikeTextureWidth = 0;
+        spikeTextureHeight = 0;
+        File file = new File(assetsDir(), "spike.png");
+        if (!file.exists()) return;
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            in.skipBytes(16); // signature + IHDR length and type
+            spikeTextureWidth = in.readInt();
+            spikeTextureHeight = in.readInt();
+        } catch (IOException e) {
+            spikeTextureWidth = 0;
+            spikeTextureHeight = 0;
+        }
+    }
+}
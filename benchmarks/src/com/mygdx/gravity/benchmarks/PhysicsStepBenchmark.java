@@ -0,0 +1,59 @@
+package com.mygdx.gravity.benchmarks;
+
+import com.mygdx.gravity.simulation.GameSimulation;
+import com.mygdx.gravity.simulation.PlayerInput;
+import com.mygdx.gravity.utils.Constants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one fixed 60 Hz step on every level, at 1x/10x/100x the
+ * platforms, boxes and enemies, with and without region activation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PhysicsStepBenchmark {
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int level;
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    @Param({"true", "false"})
+    public boolean regionActivation;
+
+    private GameSimulation simulation;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LevelFixtures.initNatives();
+        simulation = LevelFixtures.simulation(LevelFixtures.level(level, scale));
+        simulation.setRegionActivation(regionActivation);
+        // Let everything settle onto the platforms first
+        for (int i = 0; i < 60; i++) {
+            simulation.tick(PlayerInput.NONE);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulation.dispose();
+    }
+
+    /** PhysicsWorld.step alone. */
+    @Benchmark
+    public void physicsStep() {
+        simulation.getPhysics().step(Constants.PHYSICS_TIME_STEP, simulation.getTime().get());
+    }
+
+    /** A full simulation tick: entity updates, physics step and post-step work. */
+    @Benchmark
+    public boolean simulationTick() {
+        return simulation.tick(PlayerInput.NONE);
+    }
+}
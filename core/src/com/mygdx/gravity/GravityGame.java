@@ -1,47 +1,65 @@
 package com.mygdx.gravity;
 
+import com.mygdx.gravity.levels.LevelManager;
+import com.mygdx.gravity.screens.LoadingScreen;
 import com.mygdx.gravity.screens.MenuScreen;
+import com.mygdx.gravity.utils.AssetManifest;
+import com.mygdx.gravity.utils.RenderProfiler;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectSet;
 
 
 public class GravityGame extends Game {
+    public static final String ATLAS = "game.atlas";
+    // Time per frame the AssetManager may spend loading in the background
+    private static final int LOAD_BUDGET_MS = 8;
+    // Sprites every level draws, held for the whole session (the atlas holds them all)
+    private static final String[] COMMON_SPRITES = {"player", "platform", "bg"};
+
     public SpriteBatch batch;
     public AssetManager assets;
     public BitmapFont font;
+    public RenderProfiler profiler;
+    // Shared by the screens, so every level file is parsed at most once
+    public LevelManager levels;
+
+    // Queued at startup and loaded behind the menus; levels load the rest (see getSpriteFiles)
+    private final Array<String> spriteAssets = new Array<>();
+    // Loose sprites present in assets/ (empty when packed into the atlas)
+    private final ObjectSet<String> looseSprites = new ObjectSet<>();
+    // Formats of the files in assets/ as the build saw them (null without a build manifest)
+    private AssetManifest manifest;
 
     @Override
     public void create() {
         batch = new SpriteBatch();
         assets = new AssetManager();
-        // load basic textures (place these PNGs into assets/)
-        assets.load("player.png", Texture.class);
-        assets.load("platform.png", Texture.class);
-        assets.load("impulse.png", Texture.class);
-        assets.load("spike.png", Texture.class);
-        assets.load("bg.png", Texture.class);
-        // Load vanish texture only if it exists and is valid
-        FileHandle vanishFile = Gdx.files.internal("vanish.png");
-        if (vanishFile.exists() && isValidImageFile(vanishFile)) {
-            assets.load("vanish.png", Texture.class);
-        }
-        // Load enemy texture only if it exists and is valid
-        FileHandle enemyFile = Gdx.files.internal("enemy.png");
-        if (enemyFile.exists() && isValidImageFile(enemyFile)) {
-            assets.load("enemy.png", Texture.class);
-        }
-        // Load box texture only if it exists and is valid
-        FileHandle boxFile = Gdx.files.internal("box.png");
-        if (boxFile.exists() && isValidImageFile(boxFile)) {
-            assets.load("box.png", Texture.class);
+        manifest = AssetManifest.load(Gdx.files.internal(AssetManifest.PATH));
+        levels = new LevelManager();
+        // All game sprites come packed in one atlas (gradlew packTextures), so the
+        // world draws from a single texture. Without it, the loose textures every
+        // level draws are held here and levels load the rest (see LevelAssets).
+        if (Gdx.files.internal(ATLAS).exists()) {
+            assets.load(ATLAS, TextureAtlas.class);
+            spriteAssets.add(ATLAS);
+        } else {
+            findTextures();
+            for (String name : COMMON_SPRITES) {
+                assets.load(name + ".png", Texture.class);
+                spriteAssets.add(name + ".png");
+            }
         }
-        assets.finishLoading();
 
         // Try to load pixel font from .fnt file (if font.png exists, font.fnt should also exist)
         FileHandle fontFile = Gdx.files.internal("font.fnt");
@@ -54,28 +72,91 @@ public class GravityGame extends Game {
             font = new BitmapFont();
         }
 
-        setScreen(new MenuScreen(this));
+        profiler = new RenderProfiler(batch, font);
+
+        // The menu only needs the font; the sprites keep loading behind it
+        LoadingScreen.show(this, new Array<String>(), new LoadingScreen.Next() {
+            @Override
+            public Screen create() {
+                return new MenuScreen(GravityGame.this);
+            }
+        });
+    }
+
+    private void findTextures() {
+        // basic textures (place these PNGs into assets/)
+        String[] required = {"player", "platform", "impulse", "spike", "bg"};
+        for (String name : required) {
+            looseSprites.add(name);
+        }
+        // Optional textures only if they exist and are valid
+        String[] optional = {"vanish", "enemy", "box"};
+        for (String name : optional) {
+            FileHandle file = Gdx.files.internal(name + ".png");
+            if (file.exists() && isValidImageFile(file)) {
+                looseSprites.add(name);
+            }
+        }
+    }
+
+    /**
+     * Files to load for the given sprites (see LevelData.getSprites): the
+     * atlas, or the loose textures of those that are present.
+     */
+    public Array<String> getSpriteFiles(Array<String> sprites) {
+        Array<String> files = new Array<>();
+        if (spriteAssets.contains(ATLAS, false)) {
+            files.add(ATLAS);
+            return files;
+        }
+        for (int i = 0; i < sprites.size; i++) {
+            if (looseSprites.contains(sprites.get(i))) {
+                files.add(sprites.get(i) + ".png");
+            }
+        }
+        return files;
+    }
 
+    /**
+     * Region of a sprite by its file name without extension, from the atlas
+     * or else from the loose texture. Returns null if the sprite isn't there.
+     */
+    public TextureRegion findRegion(String name) {
+        if (assets.isLoaded(ATLAS)) {
+            return assets.get(ATLAS, TextureAtlas.class).findRegion(name);
+        }
+        String file = name + ".png";
+        return assets.isLoaded(file) ? new TextureRegion(assets.get(file, Texture.class)) : null;
     }
 
     /**
-     * Validates that a file is a valid image file by attempting to create a Pixmap from it.
-     * Returns true if the file can be loaded as an image, false otherwise.
+     * Checks that a file is an image Pixmap can decode (PNG or JPEG), by its
+     * build manifest entry or else its first bytes, without decoding it.
      */
     private boolean isValidImageFile(FileHandle file) {
-        try {
-            Pixmap pixmap = new Pixmap(file);
-            pixmap.dispose();
-            return true;
-        } catch (Exception e) {
-            // File exists but is corrupted or not a valid image
-            return false;
+        AssetManifest.Entry entry = manifest != null ? manifest.get(file.path()) : null;
+        String format = entry != null ? entry.format : AssetManifest.sniffFormat(file);
+        return AssetManifest.PNG.equals(format) || AssetManifest.JPEG.equals(format);
+    }
+
+    @Override
+    public void render() {
+        // F3 or a three-finger tap toggles the rendering overlay and its log
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3) || (Gdx.input.justTouched() && Gdx.input.isTouched(2))) {
+            profiler.setEnabled(!profiler.isEnabled());
+        }
+        profiler.begin(getScreen());
+        if (!assets.isFinished()) {
+            assets.update(LOAD_BUDGET_MS);
         }
+        super.render();
+        profiler.end();
     }
 
     @Override
     public void dispose() {
         if (getScreen() != null) getScreen().dispose();
+        profiler.dispose();
         if (font != null) font.dispose();
         assets.dispose();
         batch.dispose();
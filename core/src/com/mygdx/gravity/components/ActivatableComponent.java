@@ -0,0 +1,7 @@
+package com.mygdx.gravity.components;
+
+import com.badlogic.ashley.core.Component;
+
+/** Entity that ActivationRegion may put to sleep when it is far from the camera. */
+public class ActivatableComponent implements Component {
+}
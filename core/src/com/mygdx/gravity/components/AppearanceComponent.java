@@ -0,0 +1,82 @@
+package com.mygdx.gravity.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+import com.mygdx.gravity.simulation.WorldSnapshot;
+
+/**
+ * How an entity is drawn. Only ids and sizes live here, so the simulation
+ * stays free of textures; RenderSystem maps sprite ids to regions.
+ */
+public class AppearanceComponent implements Component, Pool.Poolable {
+    public static final int PLAYER = 0;
+    public static final int PLATFORM = 1;
+    public static final int SPIKE = 2;
+    public static final int VANISH = 3;
+    public static final int IMPULSE = 4;
+    public static final int ENEMY = 5;
+    public static final int BOX = 6;
+    public static final int SPRITE_COUNT = 7;
+
+    public int sprite;
+    // Drawn size in meters
+    public float width;
+    public float height;
+    public float r = 1f, g = 1f, b = 1f, a = 1f;
+    public boolean visible = true;
+    public boolean flipX = false;
+    // Plays the sprite's animation instead of its idle frame
+    public boolean animating = false;
+    public float stateTime = 0f;
+    // Never moves or changes after the level is built; drawn from a cache
+    public boolean fixed = false;
+
+    public AppearanceComponent set(int sprite, float width, float height) {
+        this.sprite = sprite;
+        this.width = width;
+        this.height = height;
+        return this;
+    }
+
+    public AppearanceComponent tint(float r, float g, float b, float a) {
+        this.r = r;
+        this.g = g;
+        this.b = b;
+        this.a = a;
+        return this;
+    }
+
+    public AppearanceComponent markFixed() {
+        fixed = true;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        sprite = 0;
+        width = 0f;
+        height = 0f;
+        r = g = b = a = 1f;
+        visible = true;
+        flipX = false;
+        animating = false;
+        stateTime = 0f;
+        fixed = false;
+    }
+
+    public void write(WorldSnapshot snapshot) {
+        snapshot.putFloat(a);
+        snapshot.putBoolean(visible);
+        snapshot.putBoolean(flipX);
+        snapshot.putBoolean(animating);
+        snapshot.putFloat(stateTime);
+    }
+
+    public void read(WorldSnapshot snapshot) {
+        a = snapshot.getFloat();
+        visible = snapshot.getBoolean();
+        flipX = snapshot.getBoolean();
+        animating = snapshot.getBoolean();
+        stateTime = snapshot.getFloat();
+    }
+}
@@ -0,0 +1,59 @@
+package com.mygdx.gravity.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.mygdx.gravity.simulation.WorldSnapshot;
+
+/** Box2D body of an entity. Fixture user data points back at the entity. */
+public class BodyComponent implements Component {
+    public Body body;
+    // Switched off for gameplay reasons (dead enemy, vanished platform)
+    public boolean enabled = true;
+    // Outside the activation region: body switched off, other state kept
+    public boolean dormant = false;
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!dormant) {
+            body.setActive(enabled);
+        }
+    }
+
+    public void setDormant(boolean dormant) {
+        if (this.dormant == dormant) return;
+        this.dormant = dormant;
+        if (dormant) {
+            body.setActive(false);
+        } else if (enabled) {
+            body.setActive(true);
+        }
+    }
+
+    public void write(WorldSnapshot snapshot) {
+        Vector2 pos = body.getPosition();
+        Vector2 vel = body.getLinearVelocity();
+        snapshot.putFloat(pos.x);
+        snapshot.putFloat(pos.y);
+        snapshot.putFloat(body.getAngle());
+        snapshot.putFloat(vel.x);
+        snapshot.putFloat(vel.y);
+        snapshot.putFloat(body.getAngularVelocity());
+        snapshot.putBoolean(enabled);
+        snapshot.putBoolean(body.isAwake());
+    }
+
+    /** Restores what write wrote. The body must not be dormant. */
+    public void read(WorldSnapshot snapshot) {
+        float x = snapshot.getFloat();
+        float y = snapshot.getFloat();
+        body.setTransform(x, y, snapshot.getFloat());
+        float vx = snapshot.getFloat();
+        float vy = snapshot.getFloat();
+        body.setLinearVelocity(vx, vy);
+        body.setAngularVelocity(snapshot.getFloat());
+        enabled = snapshot.getBoolean();
+        body.setActive(enabled);
+        body.setAwake(snapshot.getBoolean());
+    }
+}
@@ -0,0 +1,8 @@
+package com.mygdx.gravity.components;
+
+import com.badlogic.ashley.core.Component;
+
+/** Slows a dynamic body down every tick, so pushed boxes don't slide forever. */
+public class DampingComponent implements Component {
+    public float factor = 0.95f;
+}
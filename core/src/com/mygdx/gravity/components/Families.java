@@ -0,0 +1,27 @@
+package com.mygdx.gravity.components;
+
+import com.badlogic.ashley.core.Family;
+
+/**
+ * Entity families used by the systems. Family.all() goes through a shared
+ * static builder, so families are only built here, once (see Mappers).
+ */
+public final class Families {
+    static {
+        // Register every component type before any family is built
+        Mappers.body.getClass();
+    }
+
+    public static final Family BODIES = Family.all(BodyComponent.class).get();
+    public static final Family MOVING = Family.all(BodyComponent.class, TransformComponent.class).get();
+    public static final Family DRAWN = Family.all(AppearanceComponent.class, TransformComponent.class).get();
+    public static final Family PLAYERS = Family.all(PlayerComponent.class, BodyComponent.class, AppearanceComponent.class).get();
+    public static final Family PATROLS = Family.all(PatrolComponent.class, BodyComponent.class, AppearanceComponent.class).get();
+    public static final Family KILLABLES = Family.all(KillableComponent.class, BodyComponent.class, AppearanceComponent.class).get();
+    public static final Family VANISHING = Family.all(VanishingComponent.class, BodyComponent.class, AppearanceComponent.class).get();
+    public static final Family DAMPED = Family.all(DampingComponent.class, BodyComponent.class).get();
+    public static final Family ACTIVATABLE = Family.all(ActivatableComponent.class, BodyComponent.class).get();
+
+    private Families() {
+    }
+}
@@ -0,0 +1,9 @@
+package com.mygdx.gravity.components;
+
+import com.badlogic.ashley.core.Component;
+import com.mygdx.gravity.mechanics.GravityDirection;
+
+/** Sensor that turns gravity when the player enters it. */
+public class GravityZoneComponent implements Component {
+    public GravityDirection direction = GravityDirection.DOWN;
+}
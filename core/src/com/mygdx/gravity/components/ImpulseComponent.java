@@ -0,0 +1,9 @@
+package com.mygdx.gravity.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+/** Platform that kicks the player when touched. */
+public class ImpulseComponent implements Component {
+    public final Vector2 impulse = new Vector2();
+}
@@ -0,0 +1,23 @@
+package com.mygdx.gravity.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+import com.mygdx.gravity.simulation.WorldSnapshot;
+
+/** Entity the player can stomp (see CollisionHandler). */
+public class KillableComponent implements Component, Pool.Poolable {
+    public boolean dead = false;
+
+    @Override
+    public void reset() {
+        dead = false;
+    }
+
+    public void write(WorldSnapshot snapshot) {
+        snapshot.putBoolean(dead);
+    }
+
+    public void read(WorldSnapshot snapshot) {
+        dead = snapshot.getBoolean();
+    }
+}
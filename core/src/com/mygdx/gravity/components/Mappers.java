@@ -0,0 +1,26 @@
+package com.mygdx.gravity.components;
+
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * Component mappers for every component type. Ashley registers component
+ * types in a static table; doing it once here (class initialization is
+ * thread-safe) lets simulations be built on several threads at once.
+ */
+public final class Mappers {
+    public static final ComponentMapper<BodyComponent> body = ComponentMapper.getFor(BodyComponent.class);
+    public static final ComponentMapper<TransformComponent> transform = ComponentMapper.getFor(TransformComponent.class);
+    public static final ComponentMapper<AppearanceComponent> appearance = ComponentMapper.getFor(AppearanceComponent.class);
+    public static final ComponentMapper<PlayerComponent> player = ComponentMapper.getFor(PlayerComponent.class);
+    public static final ComponentMapper<PatrolComponent> patrol = ComponentMapper.getFor(PatrolComponent.class);
+    public static final ComponentMapper<KillableComponent> killable = ComponentMapper.getFor(KillableComponent.class);
+    public static final ComponentMapper<VanishingComponent> vanishing = ComponentMapper.getFor(VanishingComponent.class);
+    public static final ComponentMapper<ImpulseComponent> impulse = ComponentMapper.getFor(ImpulseComponent.class);
+    public static final ComponentMapper<DampingComponent> damping = ComponentMapper.getFor(DampingComponent.class);
+    public static final ComponentMapper<GravityZoneComponent> gravityZone = ComponentMapper.getFor(GravityZoneComponent.class);
+    public static final ComponentMapper<ActivatableComponent> activatable = ComponentMapper.getFor(ActivatableComponent.class);
+    public static final ComponentMapper<StaticGeometryComponent> staticGeometry = ComponentMapper.getFor(StaticGeometryComponent.class);
+
+    private Mappers() {
+    }
+}
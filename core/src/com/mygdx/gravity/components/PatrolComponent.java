@@ -0,0 +1,32 @@
+package com.mygdx.gravity.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+import com.mygdx.gravity.simulation.WorldSnapshot;
+
+/** Walks a kinematic body back and forth between two x coordinates. */
+public class PatrolComponent implements Component, Pool.Poolable {
+    public float startX;
+    public float endX;
+    // Fixed Y coordinate to prevent flying
+    public float fixedY;
+    public float speed = 1.5f; // meters per second
+    public boolean movingRight = true;
+
+    @Override
+    public void reset() {
+        startX = 0f;
+        endX = 0f;
+        fixedY = 0f;
+        speed = 1.5f;
+        movingRight = true;
+    }
+
+    public void write(WorldSnapshot snapshot) {
+        snapshot.putBoolean(movingRight);
+    }
+
+    public void read(WorldSnapshot snapshot) {
+        movingRight = snapshot.getBoolean();
+    }
+}
@@ -0,0 +1,31 @@
+package com.mygdx.gravity.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+import com.mygdx.gravity.simulation.WorldSnapshot;
+
+/** Controls of the player for the current tick (see PlayerControlSystem). */
+public class PlayerComponent implements Component, Pool.Poolable {
+    public boolean canJump = false;
+    public boolean moveLeft = false;
+    public boolean moveRight = false;
+    public boolean jumpRequested = false;
+
+    @Override
+    public void reset() {
+        canJump = false;
+        moveLeft = false;
+        moveRight = false;
+        jumpRequested = false;
+    }
+
+    public void write(WorldSnapshot snapshot) {
+        snapshot.putBoolean(canJump);
+        snapshot.putBoolean(jumpRequested);
+    }
+
+    public void read(WorldSnapshot snapshot) {
+        canJump = snapshot.getBoolean();
+        jumpRequested = snapshot.getBoolean();
+    }
+}
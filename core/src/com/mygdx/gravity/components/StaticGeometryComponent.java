@@ -0,0 +1,11 @@
+package com.mygdx.gravity.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Marks a static body holding the fixtures of several merged platforms (see
+ * PlatformMerger). Its shape depends on the level, so EntityFactory destroys
+ * it on release instead of keeping it for reuse.
+ */
+public class StaticGeometryComponent implements Component {
+}
@@ -0,0 +1,29 @@
+package com.mygdx.gravity.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Body position after the last two fixed steps (meters), copied by
+ * PhysicsSyncSystem so rendering can interpolate without touching Box2D.
+ */
+public class TransformComponent implements Component {
+    public float x;
+    public float y;
+    public float prevX;
+    public float prevY;
+
+    /** Jumps to the position with nothing to interpolate from. */
+    public void reset(Vector2 position) {
+        x = prevX = position.x;
+        y = prevY = position.y;
+    }
+
+    public float getInterpolatedX(float alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+
+    public float getInterpolatedY(float alpha) {
+        return prevY + (y - prevY) * alpha;
+    }
+}
@@ -0,0 +1,33 @@
+package com.mygdx.gravity.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+import com.mygdx.gravity.simulation.WorldSnapshot;
+
+/** Platform that disappears a while after the player first lands on it. */
+public class VanishingComponent implements Component, Pool.Poolable {
+    public static final float LIFE_TIME = 1.2f;
+
+    public float lifeTime = LIFE_TIME;
+    public boolean activated = false;
+
+    public void activate() {
+        activated = true;
+    }
+
+    @Override
+    public void reset() {
+        lifeTime = LIFE_TIME;
+        activated = false;
+    }
+
+    public void write(WorldSnapshot snapshot) {
+        snapshot.putBoolean(activated);
+        snapshot.putFloat(lifeTime);
+    }
+
+    public void read(WorldSnapshot snapshot) {
+        activated = snapshot.getBoolean();
+        lifeTime = snapshot.getFloat();
+    }
+}
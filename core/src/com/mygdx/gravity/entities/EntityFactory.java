@@ -0,0 +1,495 @@
+package com.mygdx.gravity.entities;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.*;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.mygdx.gravity.components.*;
+import com.mygdx.gravity.levels.CompiledLevel;
+import com.mygdx.gravity.levels.PlatformMerger;
+import com.mygdx.gravity.mechanics.GravityDirection;
+import com.mygdx.gravity.utils.Constants;
+import com.mygdx.gravity.world.ContactType;
+import com.mygdx.gravity.world.FixtureData;
+
+/**
+ * EntityFactory - builds the bodies and components of every kind of level
+ * entity and adds them to the engine. Fixture user data is a FixtureData
+ * with the contact type of the fixture and the entity.
+ *
+ * Entities of a finished level can be released back to the factory, which
+ * keeps them together with their (switched off) bodies. Later create calls of
+ * the same kind move, resize and reset a released entity instead of building
+ * a new one, so loading a level only creates the bodies the previous levels
+ * did not leave behind.
+ */
+public class EntityFactory {
+    private final Engine engine;
+    private final World world;
+
+    // Released entities by the contact type of their first fixture
+    private final Array<Array<Entity>> free = new Array<>(ContactType.COUNT);
+    private final float[] headVertices = new float[8];
+    private int createdBodies = 0;
+    private int reusedBodies = 0;
+
+    public EntityFactory(Engine engine, World world) {
+        this.engine = engine;
+        this.world = world;
+        for (int i = 0; i < ContactType.COUNT; i++) {
+            free.add(new Array<Entity>(false, 16));
+        }
+    }
+
+    public Entity createPlayer(Vector2 spawn) {
+        Entity entity = obtain(ContactType.PLAYER, spawn);
+        if (entity == null) {
+            entity = new Entity();
+            attach(entity, createPlayerBody(entity, spawn));
+            entity.add(new PlayerComponent());
+            entity.add(new AppearanceComponent());
+        }
+        Mappers.appearance.get(entity).set(AppearanceComponent.PLAYER, 0.8f, 1.2f);
+        return add(entity);
+    }
+
+    private Body createPlayerBody(Entity entity, Vector2 spawn) {
+        BodyDef def = new BodyDef();
+        def.type = BodyDef.BodyType.DynamicBody;
+        def.position.set(spawn);
+
+        Body body = world.createBody(def);
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(0.4f, 0.6f);
+
+        FixtureDef fix = new FixtureDef();
+        fix.shape = shape;
+        fix.density = 1f;
+        fix.friction = 0.2f;
+        fix.filter.categoryBits = Constants.CATEGORY_PLAYER;
+        fix.filter.maskBits = (short)(Constants.CATEGORY_ENV | Constants.CATEGORY_DANGER | Constants.CATEGORY_SENSOR);
+
+        body.createFixture(fix).setUserData(new FixtureData(ContactType.PLAYER, entity));
+        shape.dispose();
+
+        // Lock rotation to prevent sideways falling
+        body.setFixedRotation(true);
+        return body;
+    }
+
+    public Entity createPlatform(Vector2 pos, Vector2 halfSize, float friction) {
+        Entity entity = obtain(ContactType.PLATFORM, pos);
+        if (entity == null) {
+            entity = new Entity();
+            attach(entity, createPlatformBody(entity, ContactType.PLATFORM, pos, halfSize, friction));
+            entity.add(new AppearanceComponent());
+        } else {
+            Fixture fixture = resize(entity, halfSize);
+            fixture.setFriction(friction);
+        }
+        Mappers.appearance.get(entity).set(AppearanceComponent.PLATFORM, halfSize.x * 2, halfSize.y * 2).markFixed();
+        return add(entity);
+    }
+
+    public Entity createVanishingPlatform(Vector2 pos, Vector2 halfSize) {
+        Entity entity = obtain(ContactType.VANISHING_PLATFORM, pos);
+        if (entity == null) {
+            entity = new Entity();
+            attach(entity, createPlatformBody(entity, ContactType.VANISHING_PLATFORM, pos, halfSize, 0.3f));
+            entity.add(new VanishingComponent());
+            entity.add(new ActivatableComponent());
+            entity.add(new AppearanceComponent());
+        } else {
+            resize(entity, halfSize);
+        }
+        Mappers.appearance.get(entity).set(AppearanceComponent.VANISH, halfSize.x * 2, halfSize.y * 2);
+        return add(entity);
+    }
+
+    public Entity createImpulsePlatform(Vector2 pos, Vector2 halfSize, Vector2 impulse) {
+        Entity entity = obtain(ContactType.IMPULSE_PLATFORM, pos);
+        if (entity == null) {
+            entity = new Entity();
+            attach(entity, createPlatformBody(entity, ContactType.IMPULSE_PLATFORM, pos, halfSize, 0.3f));
+            entity.add(new ImpulseComponent());
+            entity.add(new AppearanceComponent());
+        } else {
+            resize(entity, halfSize);
+        }
+        Mappers.impulse.get(entity).impulse.set(impulse);
+        Mappers.appearance.get(entity).set(AppearanceComponent.IMPULSE, halfSize.x * 2, halfSize.y * 2).markFixed();
+        return add(entity);
+    }
+
+    private Body createPlatformBody(Entity entity, int type, Vector2 pos, Vector2 halfSize, float friction) {
+        BodyDef def = new BodyDef();
+        def.type = BodyDef.BodyType.StaticBody;
+        def.position.set(pos);
+
+        Body body = world.createBody(def);
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(halfSize.x, halfSize.y);
+        body.createFixture(platformFixture(shape, friction)).setUserData(new FixtureData(type, entity));
+        shape.dispose();
+        return body;
+    }
+
+    private FixtureDef platformFixture(Shape shape, float friction) {
+        FixtureDef fix = new FixtureDef();
+        fix.shape = shape;
+        fix.friction = friction;
+        fix.filter.categoryBits = Constants.CATEGORY_ENV;
+        fix.filter.maskBits = (short) (
+                Constants.CATEGORY_PLAYER |
+                        Constants.CATEGORY_DANGER // чтобы враги сталкивались с платформой
+        );
+        return fix;
+    }
+
+    /**
+     * Builds a group of touching platforms as one static body with a fixture
+     * per merged box. Each platform still gets its own entity for drawing, and
+     * each fixture points at the entity of one of the platforms it covers, so
+     * contacts see ordinary PLATFORM fixtures.
+     */
+    public Entity createPlatformGroup(CompiledLevel level, PlatformMerger.Group group) {
+        Entity[] members = new Entity[group.members.size];
+        Vector2 center = new Vector2();
+        for (int i = 0; i < members.length; i++) {
+            int o = group.members.get(i) * CompiledLevel.PLATFORM_STRIDE;
+            Entity member = new Entity();
+            member.add(new AppearanceComponent().set(AppearanceComponent.PLATFORM,
+                level.platforms[o + 2] * 2, level.platforms[o + 3] * 2).markFixed());
+            TransformComponent transform = new TransformComponent();
+            transform.reset(center.set(level.platforms[o], level.platforms[o + 1]));
+            member.add(transform);
+            engine.addEntity(member);
+            members[i] = member;
+        }
+
+        BodyDef def = new BodyDef();
+        def.type = BodyDef.BodyType.StaticBody;
+        Body body = world.createBody(def);
+        PolygonShape shape = new PolygonShape();
+        for (PlatformMerger.Box box : group.boxes) {
+            shape.setAsBox(box.halfWidth(), box.halfHeight(), center.set(box.centerX(), box.centerY()), 0f);
+            body.createFixture(platformFixture(shape, box.friction))
+                .setUserData(new FixtureData(ContactType.PLATFORM, members[box.member]));
+        }
+        shape.dispose();
+
+        Entity entity = new Entity();
+        BodyComponent component = new BodyComponent();
+        component.body = body;
+        entity.add(component);
+        entity.add(new StaticGeometryComponent());
+        engine.addEntity(entity);
+        createdBodies++;
+        return entity;
+    }
+
+    /** A spike whose hitbox (and drawn size) is the given half size. */
+    public Entity createSpike(Vector2 pos, Vector2 halfSize) {
+        Entity entity = obtain(ContactType.SPIKE, pos);
+        if (entity == null) {
+            entity = new Entity();
+            attach(entity, createSpikeBody(entity, pos, halfSize));
+            entity.add(new AppearanceComponent());
+        } else {
+            resize(entity, halfSize);
+        }
+        Mappers.appearance.get(entity).set(AppearanceComponent.SPIKE, halfSize.x * 2, halfSize.y * 2).markFixed();
+        return add(entity);
+    }
+
+    private Body createSpikeBody(Entity entity, Vector2 pos, Vector2 halfSize) {
+        BodyDef def = new BodyDef();
+        def.type = BodyDef.BodyType.StaticBody;
+        def.position.set(pos);
+
+        Body body = world.createBody(def);
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(halfSize.x, halfSize.y);
+
+        FixtureDef fix = new FixtureDef();
+        fix.shape = shape;
+        fix.isSensor = false;
+        fix.filter.categoryBits = Constants.CATEGORY_DANGER;
+        fix.filter.maskBits = Constants.CATEGORY_PLAYER;
+
+        body.createFixture(fix).setUserData(new FixtureData(ContactType.SPIKE, entity));
+        shape.dispose();
+        return body;
+    }
+
+    public Entity createGravityZone(Vector2 pos, Vector2 halfSize, GravityDirection direction) {
+        Entity entity = obtainSensor(ContactType.GRAVITY_ZONE, pos, halfSize);
+        if (Mappers.gravityZone.get(entity) == null) {
+            entity.add(new GravityZoneComponent());
+        }
+        Mappers.gravityZone.get(entity).direction = direction;
+        // Tint blue and semi-transparent so player knows it's not solid
+        Mappers.appearance.get(entity).set(AppearanceComponent.PLATFORM, 2f, 6f)
+            .tint(0.4f, 0.7f, 1f, 0.35f).markFixed();
+        return add(entity);
+    }
+
+    public Entity createTimeSlowZone(Vector2 pos, Vector2 halfSize) {
+        Entity entity = obtainSensor(ContactType.TIME_SLOW_ZONE, pos, halfSize);
+        // Tint orange and semi-transparent
+        Mappers.appearance.get(entity).set(AppearanceComponent.PLATFORM, 2.5f, 2.5f)
+            .tint(1f, 0.7f, 0.3f, 0.35f).markFixed();
+        return add(entity);
+    }
+
+    public Entity createFinish(Vector2 pos, Vector2 halfSize) {
+        Entity entity = obtainSensor(ContactType.FINISH, pos, halfSize);
+        // Tint green and semi-transparent
+        Mappers.appearance.get(entity).set(AppearanceComponent.PLATFORM, 2f, 2f)
+            .tint(0.4f, 1f, 0.4f, 0.55f).markFixed();
+        return add(entity);
+    }
+
+    /** A released sensor of the type, or a new one; either way with appearance and activation. */
+    private Entity obtainSensor(int type, Vector2 pos, Vector2 halfSize) {
+        Entity entity = obtain(type, pos);
+        if (entity == null) {
+            entity = new Entity();
+            attach(entity, createSensorBody(entity, type, pos, halfSize));
+            entity.add(new ActivatableComponent());
+            entity.add(new AppearanceComponent());
+        } else {
+            resize(entity, halfSize);
+        }
+        return entity;
+    }
+
+    private Body createSensorBody(Entity entity, int type, Vector2 pos, Vector2 halfSize) {
+        BodyDef def = new BodyDef();
+        def.type = BodyDef.BodyType.StaticBody;
+        def.position.set(pos);
+        Body body = world.createBody(def);
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(halfSize.x, halfSize.y);
+
+        FixtureDef fix = new FixtureDef();
+        fix.shape = shape;
+        fix.isSensor = true;
+        fix.filter.categoryBits = Constants.CATEGORY_SENSOR;
+        fix.filter.maskBits = Constants.CATEGORY_PLAYER;
+
+        body.createFixture(fix).setUserData(new FixtureData(type, entity));
+        shape.dispose();
+        return body;
+    }
+
+    public Entity createEnemy(Vector2 pos, Vector2 halfSize, Vector2 patrolStart, Vector2 patrolEnd) {
+        Entity entity = obtain(ContactType.ENEMY, pos);
+        if (entity == null) {
+            entity = new Entity();
+            attach(entity, createEnemyBody(entity, pos, halfSize));
+            entity.add(new PatrolComponent());
+            entity.add(new KillableComponent());
+            entity.add(new ActivatableComponent());
+            entity.add(new AppearanceComponent());
+        } else {
+            resize(entity, halfSize);
+            // The head sensor follows the size of the body
+            Fixture head = Mappers.body.get(entity).body.getFixtureList().get(1);
+            ((PolygonShape) head.getShape()).set(headVertices(halfSize));
+        }
+
+        PatrolComponent patrol = Mappers.patrol.get(entity);
+        patrol.fixedY = pos.y + halfSize.y;
+        patrol.startX = patrolStart.x;
+        patrol.endX = patrolEnd.x;
+        // Start moving towards end position
+        patrol.movingRight = patrol.endX > patrol.startX;
+
+        AppearanceComponent appearance = Mappers.appearance.get(entity).set(AppearanceComponent.ENEMY,
+            halfSize.x * 2, halfSize.y * 2);
+        appearance.animating = true;
+        appearance.flipX = !patrol.movingRight;
+        return add(entity);
+    }
+
+    private Body createEnemyBody(Entity entity, Vector2 pos, Vector2 halfSize) {
+        BodyDef def = new BodyDef();
+        // Enemy should be kinematic so it doesn't fall but can still be moved if needed
+        def.type = BodyDef.BodyType.KinematicBody;
+        def.position.set(pos);
+        def.fixedRotation = true;
+
+        Body body = world.createBody(def);
+
+        // Main body fixture (for collision with player - returns player to start)
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(halfSize.x, halfSize.y);
+
+        FixtureDef fix = new FixtureDef();
+        fix.shape = shape;
+        fix.density = 1f;
+        fix.friction = 0.2f;
+        fix.filter.categoryBits = Constants.CATEGORY_DANGER;
+        fix.filter.maskBits = (short)(Constants.CATEGORY_PLAYER | Constants.CATEGORY_ENV);
+
+        body.createFixture(fix).setUserData(new FixtureData(ContactType.ENEMY, entity));
+        shape.dispose();
+
+        // Top sensor for stomp detection (smaller, on top of enemy head)
+        PolygonShape topSensorShape = new PolygonShape();
+        topSensorShape.set(headVertices(halfSize));
+
+        FixtureDef topSensorFix = new FixtureDef();
+        topSensorFix.shape = topSensorShape;
+        topSensorFix.isSensor = true;
+        topSensorFix.filter.categoryBits = Constants.CATEGORY_DANGER;
+        topSensorFix.filter.maskBits = Constants.CATEGORY_PLAYER;
+
+        body.createFixture(topSensorFix).setUserData(new FixtureData(ContactType.ENEMY_HEAD, entity));
+        topSensorShape.dispose();
+        return body;
+    }
+
+    /** Stomp sensor outline on top of an enemy of the given half size (shared scratch array). */
+    private float[] headVertices(Vector2 halfSize) {
+        float sensorHeight = 0.15f; // Slightly larger sensor for better detection
+        float[] v = headVertices;
+        v[0] = -halfSize.x * 0.9f; v[1] = halfSize.y;
+        v[2] = halfSize.x * 0.9f;  v[3] = halfSize.y;
+        v[4] = halfSize.x * 0.9f;  v[5] = halfSize.y + sensorHeight;
+        v[6] = -halfSize.x * 0.9f; v[7] = halfSize.y + sensorHeight;
+        return v;
+    }
+
+    public Entity createBox(Vector2 pos, Vector2 halfSize) {
+        Entity entity = obtain(ContactType.BOX, pos);
+        if (entity == null) {
+            entity = new Entity();
+            attach(entity, createBoxBody(entity, pos, halfSize));
+            entity.add(new DampingComponent());
+            entity.add(new ActivatableComponent());
+            entity.add(new AppearanceComponent());
+        } else {
+            resize(entity, halfSize);
+            Mappers.body.get(entity).body.resetMassData();
+        }
+        Mappers.appearance.get(entity).set(AppearanceComponent.BOX, halfSize.x * 2, halfSize.y * 2);
+        return add(entity);
+    }
+
+    private Body createBoxBody(Entity entity, Vector2 pos, Vector2 halfSize) {
+        BodyDef def = new BodyDef();
+        def.type = BodyDef.BodyType.DynamicBody; // Dynamic so it can be pushed
+        def.position.set(pos);
+
+        Body body = world.createBody(def);
+
+        PolygonShape shape = new PolygonShape();
+        shape.setAsBox(halfSize.x, halfSize.y);
+
+        FixtureDef fix = new FixtureDef();
+        fix.shape = shape;
+        fix.density = 0.5f; // Lighter than player but still has weight
+        fix.friction = 0.6f; // Good friction so it doesn't slide too much
+        fix.filter.categoryBits = Constants.CATEGORY_ENV;
+        fix.filter.maskBits = (short)(Constants.CATEGORY_PLAYER | Constants.CATEGORY_ENV | Constants.CATEGORY_DANGER);
+
+        body.createFixture(fix).setUserData(new FixtureData(ContactType.BOX, entity));
+        shape.dispose();
+
+        // Prevent rotation
+        body.setFixedRotation(true);
+        return body;
+    }
+
+    /**
+     * Parks an entity of the level being unloaded so a later create call of
+     * the same kind can reuse it. Its body stays in the world, switched off.
+     * Merged platform geometry is destroyed instead.
+     */
+    public void release(Entity entity) {
+        BodyComponent component = Mappers.body.get(entity);
+        // Drawing-only entities of merged platforms are simply dropped
+        if (component == null) return;
+        if (Mappers.staticGeometry.get(entity) != null) {
+            world.destroyBody(component.body);
+            return;
+        }
+        component.enabled = true;
+        component.dormant = false;
+        component.body.setActive(false);
+        FixtureData data = (FixtureData) component.body.getFixtureList().first().getUserData();
+        free.get(data.type).add(entity);
+    }
+
+    /** Bodies created through JNI so far. */
+    public int getCreatedBodies() { return createdBodies; }
+
+    /** Create calls served by a released entity. */
+    public int getReusedBodies() { return reusedBodies; }
+
+    /**
+     * Takes a released entity of the type and moves its body to pos, with its
+     * components reset and the body at rest; null if there is none.
+     */
+    private Entity obtain(int type, Vector2 pos) {
+        Array<Entity> pool = free.get(type);
+        if (pool.size == 0) return null;
+        Entity entity = pool.pop();
+        reusedBodies++;
+
+        ImmutableArray<Component> components = entity.getComponents();
+        for (int i = 0; i < components.size(); i++) {
+            Component component = components.get(i);
+            if (component instanceof Pool.Poolable) {
+                ((Pool.Poolable) component).reset();
+            }
+        }
+
+        // Still switched off, so nothing touches the broad-phase until add
+        Body body = Mappers.body.get(entity).body;
+        body.setTransform(pos, 0f);
+        if (body.getType() != BodyDef.BodyType.StaticBody) {
+            body.setLinearVelocity(0f, 0f);
+            body.setAngularVelocity(0f);
+            // Clears forces and the sleep timer, like a new body
+            body.setAwake(false);
+            body.setAwake(true);
+        }
+        return entity;
+    }
+
+    /** Resizes the box of a released entity's first fixture; returns that fixture. */
+    private Fixture resize(Entity entity, Vector2 halfSize) {
+        Fixture fixture = Mappers.body.get(entity).body.getFixtureList().first();
+        ((PolygonShape) fixture.getShape()).setAsBox(halfSize.x, halfSize.y);
+        return fixture;
+    }
+
+    /** Adds the body and transform components to a new entity. */
+    private void attach(Entity entity, Body body) {
+        BodyComponent component = new BodyComponent();
+        component.body = body;
+        entity.add(component);
+        entity.add(new TransformComponent());
+        createdBodies++;
+    }
+
+    /** Switches the body on and adds the entity to the engine. */
+    private Entity add(Entity entity) {
+        Body body = Mappers.body.get(entity).body;
+        body.setActive(true);
+        Mappers.transform.get(entity).reset(body.getPosition());
+        engine.addEntity(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,289 @@
+package com.mygdx.gravity.levels;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.mygdx.gravity.mechanics.GravityDirection;
+import com.mygdx.gravity.utils.Constants;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * CompiledLevel - a level as flat arrays, with everything GameSimulation
+ * used to work out while loading already worked out: spike hitboxes are
+ * sized for the spike sprite, and every enemy's patrol range is resolved
+ * against the platform it stands on. The build writes one per level file
+ * (gradlew headless:compileLevels); reading it back is one bulk copy per array, from
+ * a memory-mapped file where the platform allows.
+ *
+ * File layout, big-endian: magic, version, six counts (platforms, spikes,
+ * gravity zones, time slow zones, enemies, boxes), the header floats, the
+ * float arrays in that order, then the enum bytes of platforms and gravity
+ * zones, so all floats stay 4-byte aligned.
+ */
+public class CompiledLevel {
+    public static final String EXTENSION = ".lvl";
+    // Bump when the layout changes, or the order of PlatformType or GravityDirection
+    public static final int VERSION = 1;
+    private static final int MAGIC = 0x474c564c; // "GLVL"
+
+    // x, y, halfWidth, halfHeight, friction, impulseX, impulseY
+    public static final int PLATFORM_STRIDE = 7;
+    // x, y, halfWidth, halfHeight: spikes (hitbox), zones and boxes
+    public static final int BOX_STRIDE = 4;
+    // x, y, halfWidth, halfHeight, patrolStartX, patrolEndX
+    public static final int ENEMY_STRIDE = 6;
+
+    private static final LevelData.PlatformType[] PLATFORM_TYPES = LevelData.PlatformType.values();
+    private static final GravityDirection[] DIRECTIONS = GravityDirection.values();
+
+    public final float timeLimit;
+    public final float spawnX, spawnY;
+    public final float finishX, finishY;
+    public final float[] platforms;
+    public final byte[] platformTypes;
+    public final float[] spikes;
+    public final float[] gravityZones;
+    public final byte[] gravityDirections;
+    public final float[] timeSlowZones;
+    public final float[] enemies;
+    public final float[] boxes;
+
+    private CompiledLevel(float timeLimit, float spawnX, float spawnY, float finishX, float finishY,
+                          int platformCount, int spikeCount, int gravityZoneCount, int timeSlowZoneCount,
+                          int enemyCount, int boxCount) {
+        this.timeLimit = timeLimit;
+        this.spawnX = spawnX;
+        this.spawnY = spawnY;
+        this.finishX = finishX;
+        this.finishY = finishY;
+        platforms = new float[platformCount * PLATFORM_STRIDE];
+        platformTypes = new byte[platformCount];
+        spikes = new float[spikeCount * BOX_STRIDE];
+        gravityZones = new float[gravityZoneCount * BOX_STRIDE];
+        gravityDirections = new byte[gravityZoneCount];
+        timeSlowZones = new float[timeSlowZoneCount * BOX_STRIDE];
+        enemies = new float[enemyCount * ENEMY_STRIDE];
+        boxes = new float[boxCount * BOX_STRIDE];
+    }
+
+    public int platformCount() { return platformTypes.length; }
+    public int spikeCount() { return spikes.length / BOX_STRIDE; }
+    public int gravityZoneCount() { return gravityDirections.length; }
+    public int timeSlowZoneCount() { return timeSlowZones.length / BOX_STRIDE; }
+    public int enemyCount() { return enemies.length / ENEMY_STRIDE; }
+    public int boxCount() { return boxes.length / BOX_STRIDE; }
+
+    public LevelData.PlatformType platformType(int i) { return PLATFORM_TYPES[platformTypes[i]]; }
+    public GravityDirection gravityDirection(int i) { return DIRECTIONS[gravityDirections[i]]; }
+
+    /** Names of the sprites this level draws, see LevelData.getSprites. */
+    public Array<String> getSprites() {
+        boolean impulse = false;
+        boolean vanish = false;
+        for (int i = 0; i < platformTypes.length; i++) {
+            impulse |= platformType(i) == LevelData.PlatformType.IMPULSE;
+            vanish |= platformType(i) == LevelData.PlatformType.VANISHING;
+        }
+        return LevelData.sprites(spikeCount() > 0, impulse, vanish, enemyCount() > 0, boxCount() > 0);
+    }
+
+    /**
+     * Compiles a level for a spike sprite of the given size in pixels (0 to
+     * keep the spike sizes of the level data).
+     */
+    public static CompiledLevel compile(LevelData level, int spikeTextureWidth, int spikeTextureHeight) {
+        CompiledLevel compiled = new CompiledLevel(level.timeLimit,
+            level.playerSpawn.x, level.playerSpawn.y, level.finishPosition.x, level.finishPosition.y,
+            level.platforms.length, level.spikes.length, level.gravityZones.length,
+            level.timeSlowZones.length, level.enemies.length, level.boxes.length);
+
+        for (int i = 0; i < level.platforms.length; i++) {
+            LevelData.PlatformData p = level.platforms[i];
+            int o = i * PLATFORM_STRIDE;
+            compiled.platforms[o] = p.position.x;
+            compiled.platforms[o + 1] = p.position.y;
+            compiled.platforms[o + 2] = p.halfSize.x;
+            compiled.platforms[o + 3] = p.halfSize.y;
+            compiled.platforms[o + 4] = p.friction;
+            if (p.impulse != null) {
+                compiled.platforms[o + 5] = p.impulse.x;
+                compiled.platforms[o + 6] = p.impulse.y;
+            }
+            compiled.platformTypes[i] = (byte) p.type.ordinal();
+        }
+
+        // Spikes get a hitbox smaller than the sprite, and are drawn at that size
+        for (int i = 0; i < level.spikes.length; i++) {
+            LevelData.SpikeData s = level.spikes[i];
+            float halfWidth = s.halfSize.x;
+            float halfHeight = s.halfSize.y;
+            if (spikeTextureWidth > 0 && spikeTextureHeight > 0) {
+                float spikeWidth = spikeTextureWidth / Constants.PPM;
+                float spikeHeight = spikeTextureHeight / Constants.PPM;
+                // Width ~0.4 (was 0.7), height ~0.5 (0.25 * 2 before)
+                halfWidth = Math.min(0.4f, spikeWidth * 0.6f) / 2f;
+                halfHeight = Math.min(0.5f, spikeHeight * 0.9f) / 2f;
+            }
+            putBox(compiled.spikes, i, s.position.x, s.position.y, halfWidth, halfHeight);
+        }
+
+        for (int i = 0; i < level.gravityZones.length; i++) {
+            LevelData.GravityZoneData z = level.gravityZones[i];
+            putBox(compiled.gravityZones, i, z.position.x, z.position.y, z.halfSize.x, z.halfSize.y);
+            compiled.gravityDirections[i] = (byte) z.direction.ordinal();
+        }
+
+        for (int i = 0; i < level.timeSlowZones.length; i++) {
+            LevelData.TimeSlowZoneData z = level.timeSlowZones[i];
+            putBox(compiled.timeSlowZones, i, z.position.x, z.position.y, z.halfSize.x, z.halfSize.y);
+        }
+
+        for (int i = 0; i < level.enemies.length; i++) {
+            LevelData.EnemyData e = level.enemies[i];
+            int o = i * ENEMY_STRIDE;
+            compiled.enemies[o] = e.position.x;
+            compiled.enemies[o + 1] = e.position.y;
+            compiled.enemies[o + 2] = e.halfSize.x;
+            compiled.enemies[o + 3] = e.halfSize.y;
+            resolvePatrol(level.platforms, e, compiled.enemies, o + 4);
+        }
+
+        for (int i = 0; i < level.boxes.length; i++) {
+            LevelData.BoxData b = level.boxes[i];
+            putBox(compiled.boxes, i, b.position.x, b.position.y, b.halfSize.x, b.halfSize.y);
+        }
+        return compiled;
+    }
+
+    /**
+     * Patrol range of an enemy: the edges (less a margin) of the first
+     * platform it stands on, or 2 m either side of it if it stands on none.
+     */
+    private static void resolvePatrol(LevelData.PlatformData[] platforms, LevelData.EnemyData enemy,
+                                      float[] out, int offset) {
+        for (LevelData.PlatformData platform : platforms) {
+            float platformLeft = platform.position.x - platform.halfSize.x;
+            float platformRight = platform.position.x + platform.halfSize.x;
+            float platformTop = platform.position.y + platform.halfSize.y;
+            float platformBottom = platform.position.y - platform.halfSize.y;
+
+            // Within the platform's x range and no more than 0.5 m above it
+            if (enemy.position.x >= platformLeft && enemy.position.x <= platformRight &&
+                enemy.position.y >= platformBottom && enemy.position.y <= platformTop + 0.5f) {
+                float margin = 0.3f;
+                out[offset] = platformLeft + margin;
+                out[offset + 1] = platformRight - margin;
+                return;
+            }
+        }
+        float defaultPatrol = 2f;
+        out[offset] = enemy.position.x - defaultPatrol;
+        out[offset + 1] = enemy.position.x + defaultPatrol;
+    }
+
+    private static void putBox(float[] boxes, int i, float x, float y, float halfWidth, float halfHeight) {
+        int o = i * BOX_STRIDE;
+        boxes[o] = x;
+        boxes[o + 1] = y;
+        boxes[o + 2] = halfWidth;
+        boxes[o + 3] = halfHeight;
+    }
+
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(platformCount());
+        out.writeInt(spikeCount());
+        out.writeInt(gravityZoneCount());
+        out.writeInt(timeSlowZoneCount());
+        out.writeInt(enemyCount());
+        out.writeInt(boxCount());
+        out.writeFloat(timeLimit);
+        out.writeFloat(spawnX);
+        out.writeFloat(spawnY);
+        out.writeFloat(finishX);
+        out.writeFloat(finishY);
+        writeFloats(out, platforms);
+        writeFloats(out, spikes);
+        writeFloats(out, gravityZones);
+        writeFloats(out, timeSlowZones);
+        writeFloats(out, enemies);
+        writeFloats(out, boxes);
+        out.write(platformTypes);
+        out.write(gravityDirections);
+        out.flush();
+    }
+
+    private static void writeFloats(DataOutputStream out, float[] values) throws IOException {
+        for (float value : values) {
+            out.writeFloat(value);
+        }
+    }
+
+    /** Reads a compiled level, mapping the file into memory if its file type allows. */
+    public static CompiledLevel load(FileHandle file) {
+        ByteBuffer buffer;
+        try {
+            buffer = file.map();
+        } catch (GdxRuntimeException e) {
+            // Classpath files, and files stored compressed in an APK, can't be mapped
+            buffer = ByteBuffer.wrap(file.readBytes());
+        }
+        // map() hands the buffer back in native order; the file is big-endian
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        try {
+            return read(buffer);
+        } catch (RuntimeException e) {
+            throw new GdxRuntimeException("Could not read compiled level " + file.path(), e);
+        }
+    }
+
+    public static CompiledLevel read(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new GdxRuntimeException("Not a compiled level");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new GdxRuntimeException("Compiled level version " + version + ", expected " + VERSION);
+        }
+        int platformCount = buffer.getInt();
+        int spikeCount = buffer.getInt();
+        int gravityZoneCount = buffer.getInt();
+        int timeSlowZoneCount = buffer.getInt();
+        int enemyCount = buffer.getInt();
+        int boxCount = buffer.getInt();
+        CompiledLevel level = new CompiledLevel(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(),
+            buffer.getFloat(), buffer.getFloat(), platformCount, spikeCount, gravityZoneCount,
+            timeSlowZoneCount, enemyCount, boxCount);
+        readFloats(buffer, level.platforms);
+        readFloats(buffer, level.spikes);
+        readFloats(buffer, level.gravityZones);
+        readFloats(buffer, level.timeSlowZones);
+        readFloats(buffer, level.enemies);
+        readFloats(buffer, level.boxes);
+        buffer.get(level.platformTypes);
+        buffer.get(level.gravityDirections);
+        for (int i = 0; i < platformCount; i++) {
+            if (level.platformTypes[i] < 0 || level.platformTypes[i] >= PLATFORM_TYPES.length) {
+                throw new GdxRuntimeException("Bad platform type " + level.platformTypes[i]);
+            }
+        }
+        for (int i = 0; i < gravityZoneCount; i++) {
+            if (level.gravityDirections[i] < 0 || level.gravityDirections[i] >= DIRECTIONS.length) {
+                throw new GdxRuntimeException("Bad gravity direction " + level.gravityDirections[i]);
+            }
+        }
+        return level;
+    }
+
+    private static void readFloats(ByteBuffer buffer, float[] values) {
+        buffer.asFloatBuffer().get(values);
+        buffer.position(buffer.position() + values.length * 4);
+    }
+}
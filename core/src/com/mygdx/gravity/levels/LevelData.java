@@ -1,9 +1,12 @@
 package com.mygdx.gravity.levels;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.mygdx.gravity.mechanics.GravityDirection;
 
 public class LevelData {
+    private static final float COPY_GAP = 6f; // meters between tiled copies of a level
+
     public final float timeLimit;
     public final Vector2 playerSpawn;
     public final Vector2 finishPosition;
@@ -28,6 +31,75 @@ public class LevelData {
         this.enemies = enemies != null ? enemies : new EnemyData[0];
         this.boxes = boxes != null ? boxes : new BoxData[0];
     }
+
+    /**
+     * Names of the sprites this level draws, derived from what it contains:
+     * player, platform and bg always (zones and the finish use the platform
+     * sprite), the others only if the level has such entities.
+     */
+    public Array<String> getSprites() {
+        return sprites(spikes.length > 0, hasPlatform(PlatformType.IMPULSE), hasPlatform(PlatformType.VANISHING),
+            enemies.length > 0, boxes.length > 0);
+    }
+
+    static Array<String> sprites(boolean spikes, boolean impulse, boolean vanish, boolean enemies, boolean boxes) {
+        Array<String> sprites = new Array<>();
+        sprites.add("player");
+        sprites.add("platform");
+        sprites.add("bg");
+        if (spikes) sprites.add("spike");
+        if (impulse) sprites.add("impulse");
+        if (vanish) sprites.add("vanish");
+        if (enemies) sprites.add("enemy");
+        if (boxes) sprites.add("box");
+        return sprites;
+    }
+
+    /**
+     * This level with its platforms, boxes and enemies tiled the given number
+     * of times along the x axis, e.g. to try out levels much larger than the
+     * shipped ones. The player, finish and zones stay in the first copy.
+     */
+    public LevelData tiled(int copies) {
+        float width = 0f;
+        for (PlatformData p : platforms) {
+            width = Math.max(width, p.position.x + p.halfSize.x);
+        }
+        float offset = width + COPY_GAP;
+
+        PlatformData[] tiledPlatforms = new PlatformData[platforms.length * copies];
+        EnemyData[] tiledEnemies = new EnemyData[enemies.length * copies];
+        BoxData[] tiledBoxes = new BoxData[boxes.length * copies];
+        for (int copy = 0; copy < copies; copy++) {
+            float dx = copy * offset;
+            for (int i = 0; i < platforms.length; i++) {
+                PlatformData p = platforms[i];
+                tiledPlatforms[copy * platforms.length + i] = new PlatformData(
+                    shift(p.position, dx), p.halfSize, p.friction, p.type, p.impulse);
+            }
+            for (int i = 0; i < enemies.length; i++) {
+                EnemyData e = enemies[i];
+                tiledEnemies[copy * enemies.length + i] = new EnemyData(shift(e.position, dx), e.halfSize);
+            }
+            for (int i = 0; i < boxes.length; i++) {
+                BoxData b = boxes[i];
+                tiledBoxes[copy * boxes.length + i] = new BoxData(shift(b.position, dx), b.halfSize);
+            }
+        }
+        return new LevelData(timeLimit, playerSpawn, finishPosition,
+            tiledPlatforms, spikes, gravityZones, timeSlowZones, tiledEnemies, tiledBoxes);
+    }
+
+    private static Vector2 shift(Vector2 v, float dx) {
+        return new Vector2(v.x + dx, v.y);
+    }
+
+    private boolean hasPlatform(PlatformType type) {
+        for (PlatformData platform : platforms) {
+            if (platform.type == type) return true;
+        }
+        return false;
+    }
     
     public static class PlatformData {
         public final Vector2 position;
@@ -0,0 +1,172 @@
+package com.mygdx.gravity.levels;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * PlatformMerger - finds NORMAL platforms that touch or overlap, so each group
+ * can become a single static body instead of one body per platform. Within a
+ * group, boxes that line up exactly (same top and bottom side by side, or same
+ * left and right stacked) with the same friction are fused into one box, which
+ * removes a broad-phase proxy and the internal edge a sliding body could snag on.
+ */
+public final class PlatformMerger {
+    // Gap up to which two platforms count as touching, in meters
+    private static final float EPSILON = 0.01f;
+
+    private PlatformMerger() {}
+
+    /** A group of touching platforms (by index in the level) and the boxes that replace their fixtures. */
+    public static class Group {
+        public final IntArray members = new IntArray();
+        public final Array<Box> boxes = new Array<>();
+    }
+
+    /** Axis-aligned box in meters, with the member whose entity its fixture points at. */
+    public static class Box {
+        public float minX, minY, maxX, maxY;
+        public float friction;
+        public int member;
+
+        public float centerX() { return (minX + maxX) / 2f; }
+        public float centerY() { return (minY + maxY) / 2f; }
+        public float halfWidth() { return (maxX - minX) / 2f; }
+        public float halfHeight() { return (maxY - minY) / 2f; }
+    }
+
+    /**
+     * Groups the NORMAL platforms of the level. Platforms that touch nothing
+     * come back as groups of one; other platform types are left out.
+     */
+    public static Array<Group> merge(CompiledLevel level) {
+        final float[] platforms = level.platforms;
+        final IntArray normal = new IntArray();
+        for (int i = 0; i < level.platformCount(); i++) {
+            if (level.platformType(i) == LevelData.PlatformType.NORMAL) normal.add(i);
+        }
+        int n = normal.size;
+
+        // Sweep along x: only platforms whose x ranges meet can touch. Levels are
+        // built on several threads at once, so this sorts with a sorter of its
+        // own rather than the shared Sort.instance()
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Float.compare(minX(platforms, normal.get(a)), minX(platforms, normal.get(b)));
+            }
+        });
+
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) parent[i] = i;
+        for (int i = 0; i < n; i++) {
+            int a = normal.get(order[i]);
+            for (int j = i + 1; j < n; j++) {
+                int b = normal.get(order[j]);
+                if (minX(platforms, b) > maxX(platforms, a) + EPSILON) break;
+                if (minY(platforms, b) <= maxY(platforms, a) + EPSILON
+                    && minY(platforms, a) <= maxY(platforms, b) + EPSILON) {
+                    union(parent, order[i], order[j]);
+                }
+            }
+        }
+
+        // Collect groups in level order so the result doesn't depend on the sort
+        Array<Group> groups = new Array<>();
+        IntArray groupOfRoot = new IntArray(n);
+        for (int i = 0; i < n; i++) groupOfRoot.add(-1);
+        for (int i = 0; i < n; i++) {
+            int root = find(parent, i);
+            if (groupOfRoot.get(root) < 0) {
+                groupOfRoot.set(root, groups.size);
+                groups.add(new Group());
+            }
+            Group group = groups.get(groupOfRoot.get(root));
+            int p = normal.get(i);
+            Box box = new Box();
+            box.minX = minX(platforms, p);
+            box.minY = minY(platforms, p);
+            box.maxX = maxX(platforms, p);
+            box.maxY = maxY(platforms, p);
+            box.friction = platforms[p * CompiledLevel.PLATFORM_STRIDE + 4];
+            box.member = group.members.size;
+            group.members.add(p);
+            group.boxes.add(box);
+        }
+        for (Group group : groups) {
+            fuse(group.boxes);
+        }
+        return groups;
+    }
+
+    /** Fuses pairs of boxes whose union is a box, until no pair is left. */
+    private static void fuse(Array<Box> boxes) {
+        boolean fused = true;
+        while (fused) {
+            fused = false;
+            for (int i = 0; i < boxes.size && !fused; i++) {
+                for (int j = i + 1; j < boxes.size; j++) {
+                    Box a = boxes.get(i);
+                    Box b = boxes.get(j);
+                    if (a.friction != b.friction || !shareSide(a, b)) continue;
+                    a.minX = Math.min(a.minX, b.minX);
+                    a.minY = Math.min(a.minY, b.minY);
+                    a.maxX = Math.max(a.maxX, b.maxX);
+                    a.maxY = Math.max(a.maxY, b.maxY);
+                    boxes.removeIndex(j);
+                    fused = true;
+                    break;
+                }
+            }
+        }
+    }
+
+    private static boolean shareSide(Box a, Box b) {
+        // Touching or overlapping along the other axis, so the union is still a box
+        boolean sameRows = near(a.minY, b.minY) && near(a.maxY, b.maxY);
+        boolean sideBySide = a.minX <= b.maxX + EPSILON && b.minX <= a.maxX + EPSILON;
+        boolean sameColumns = near(a.minX, b.minX) && near(a.maxX, b.maxX);
+        boolean stacked = a.minY <= b.maxY + EPSILON && b.minY <= a.maxY + EPSILON;
+        return (sameRows && sideBySide) || (sameColumns && stacked);
+    }
+
+    private static boolean near(float a, float b) {
+        return Math.abs(a - b) <= EPSILON;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        parent[find(parent, a)] = find(parent, b);
+    }
+
+    private static float minX(float[] platforms, int i) {
+        int o = i * CompiledLevel.PLATFORM_STRIDE;
+        return platforms[o] - platforms[o + 2];
+    }
+
+    private static float maxX(float[] platforms, int i) {
+        int o = i * CompiledLevel.PLATFORM_STRIDE;
+        return platforms[o] + platforms[o + 2];
+    }
+
+    private static float minY(float[] platforms, int i) {
+        int o = i * CompiledLevel.PLATFORM_STRIDE;
+        return platforms[o + 1] - platforms[o + 3];
+    }
+
+    private static float maxY(float[] platforms, int i) {
+        int o = i * CompiledLevel.PLATFORM_STRIDE;
+        return platforms[o + 1] + platforms[o + 3];
+    }
+}
@@ -6,6 +6,7 @@ import com.mygdx.gravity.utils.Constants;
 
 public class GravityManager {
     private final World world;
+    private final Vector2 vector = new Vector2();
     private GravityDirection current = GravityDirection.DOWN;
 
     public GravityManager(World world) {
@@ -18,22 +19,23 @@ public class GravityManager {
         apply();
     }
 
+    // World.setGravity only copies the components, so one vector is reused for every change
     private void apply() {
         switch (current) {
             case DOWN:
-                world.setGravity(new Vector2(0, -Constants.WORLD_GRAVITY));
+                world.setGravity(vector.set(0, -Constants.WORLD_GRAVITY));
                 break;
             case UP:
-                world.setGravity(new Vector2(0, Constants.WORLD_GRAVITY));
+                world.setGravity(vector.set(0, Constants.WORLD_GRAVITY));
                 break;
             case LEFT:
-                world.setGravity(new Vector2(-Constants.WORLD_GRAVITY, 0));
+                world.setGravity(vector.set(-Constants.WORLD_GRAVITY, 0));
                 break;
             case RIGHT:
-                world.setGravity(new Vector2(Constants.WORLD_GRAVITY, 0));
+                world.setGravity(vector.set(Constants.WORLD_GRAVITY, 0));
                 break;
             default:
-                world.setGravity(new Vector2(0, -Constants.WORLD_GRAVITY));
+                world.setGravity(vector.set(0, -Constants.WORLD_GRAVITY));
                 break;
         }
     }
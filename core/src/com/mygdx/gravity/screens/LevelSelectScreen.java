@@ -2,15 +2,18 @@ package com.mygdx.gravity.screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
 import com.mygdx.gravity.GravityGame;
 import com.mygdx.gravity.levels.LevelManager;
 import com.mygdx.gravity.utils.Constants;
+import com.mygdx.gravity.utils.LevelAssets;
 
 public class LevelSelectScreen extends ScreenAdapter {
     private final GravityGame game;
@@ -25,15 +28,25 @@ public class LevelSelectScreen extends ScreenAdapter {
     
     private int selectedLevel = 0;
 
+    // Reused every frame so the screen doesn't allocate while idle
+    private final String[] levelLabels;
+    private final GlyphLayout layout = new GlyphLayout();
+    private final Vector3 touchPos = new Vector3();
+
     public LevelSelectScreen(GravityGame game) {
         this.game = game;
-        this.levelManager = new LevelManager();
+        this.levelManager = game.levels;
         camera = new OrthographicCamera();
         camera.setToOrtho(false, Constants.V_WIDTH, Constants.V_HEIGHT);
         
         font = game.font;
         titleFont = new BitmapFont();
         titleFont.getData().setScale(2.0f);
+
+        levelLabels = new String[levelManager.count()];
+        for (int i = 0; i < levelLabels.length; i++) {
+            levelLabels[i] = "Level " + (i + 1);
+        }
     }
 
     @Override
@@ -48,9 +61,8 @@ public class LevelSelectScreen extends ScreenAdapter {
         game.batch.begin();
         
         // Draw title
-        String title = "Select Level";
-        GlyphLayout titleLayout = new GlyphLayout(titleFont, title);
-        titleFont.draw(game.batch, title, (Constants.V_WIDTH - titleLayout.width) / 2f, Constants.V_HEIGHT - 50);
+        layout.setText(titleFont, "Select Level");
+        titleFont.draw(game.batch, layout, (Constants.V_WIDTH - layout.width) / 2f, Constants.V_HEIGHT - 50);
         
         // Draw level buttons (5 levels)
         int levels = levelManager.count();
@@ -63,7 +75,7 @@ public class LevelSelectScreen extends ScreenAdapter {
             float x = startX + col * (BUTTON_WIDTH + SPACING);
             float y = startY - row * (BUTTON_HEIGHT + SPACING);
             
-            drawLevelButton("Level " + (i + 1), x + BUTTON_WIDTH / 2f, y + BUTTON_HEIGHT / 2f, selectedLevel == i);
+            drawLevelButton(levelLabels[i], x + BUTTON_WIDTH / 2f, y + BUTTON_HEIGHT / 2f, selectedLevel == i);
         }
         
         // Back button
@@ -73,17 +85,16 @@ public class LevelSelectScreen extends ScreenAdapter {
     }
     
     private void drawLevelButton(String text, float x, float y, boolean selected) {
-        GlyphLayout layout = new GlyphLayout(font, text);
-        float textX = x - layout.width / 2f;
-        float textY = y + layout.height / 2f;
-        
         if (selected) {
             font.setColor(1f, 1f, 0.5f, 1f);
         } else {
             font.setColor(1f, 1f, 1f, 1f);
         }
         
-        font.draw(game.batch, text, textX, textY);
+        layout.setText(font, text);
+        float textX = x - layout.width / 2f;
+        float textY = y + layout.height / 2f;
+        font.draw(game.batch, layout, textX, textY);
     }
     
     private void handleInput() {
@@ -104,7 +115,7 @@ public class LevelSelectScreen extends ScreenAdapter {
         }
         
         if (Gdx.input.justTouched()) {
-            Vector3 touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
+            touchPos.set(Gdx.input.getX(), Gdx.input.getY(), 0);
             camera.unproject(touchPos);
             
             // Check level buttons
@@ -145,8 +156,17 @@ public class LevelSelectScreen extends ScreenAdapter {
         }
     }
     
-    private void startLevel(int index) {
-        game.setScreen(new GameScreen(game, index));
+    private void startLevel(final int index) {
+        // Queues the sprites this level draws, and waits on a loading screen
+        // if they (or the ones loading since startup) aren't in yet
+        final LevelAssets levelAssets = new LevelAssets(game.assets);
+        Array<String> files = levelAssets.load(game.getSpriteFiles(levelManager.getSprites(index)));
+        LoadingScreen.show(game, files, new LoadingScreen.Next() {
+            @Override
+            public Screen create() {
+                return new GameScreen(game, index, levelAssets);
+            }
+        });
         dispose();
     }
     
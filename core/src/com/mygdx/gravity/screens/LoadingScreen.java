@@ -0,0 +1,96 @@
+package com.mygdx.gravity.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.gravity.GravityGame;
+import com.mygdx.gravity.utils.Constants;
+
+/**
+ * LoadingScreen - shows a progress bar while the AssetManager streams assets
+ * in (GravityGame.render gives it a time budget every frame), and moves on
+ * to the next screen as soon as the assets that screen needs are loaded.
+ */
+public class LoadingScreen extends ScreenAdapter {
+    private static final float BAR_WIDTH = 400;
+    private static final float BAR_HEIGHT = 16;
+
+    /** Creates the screen to show once loading is done. */
+    public interface Next {
+        Screen create();
+    }
+
+    private final GravityGame game;
+    private final Array<String> required;
+    private final Next next;
+    private final OrthographicCamera camera;
+    private final ShapeRenderer shapes = new ShapeRenderer();
+    private final GlyphLayout layout = new GlyphLayout();
+
+    public LoadingScreen(GravityGame game, Array<String> required, Next next) {
+        this.game = game;
+        this.required = required;
+        this.next = next;
+        camera = new OrthographicCamera();
+        camera.setToOrtho(false, Constants.V_WIDTH, Constants.V_HEIGHT);
+    }
+
+    /**
+     * Shows the next screen right away if its assets are loaded, otherwise
+     * a loading screen in front of it.
+     */
+    public static void show(GravityGame game, Array<String> required, Next next) {
+        if (isLoaded(game, required)) {
+            game.setScreen(next.create());
+        } else {
+            game.setScreen(new LoadingScreen(game, required, next));
+        }
+    }
+
+    private static boolean isLoaded(GravityGame game, Array<String> required) {
+        for (int i = 0; i < required.size; i++) {
+            if (!game.assets.isLoaded(required.get(i))) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void render(float delta) {
+        if (isLoaded(game, required)) {
+            game.setScreen(next.create());
+            dispose();
+            return;
+        }
+
+        Gdx.gl.glClearColor(0.1f, 0.1f, 0.15f, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        camera.update();
+
+        float progress = game.assets.getProgress();
+        float x = (Constants.V_WIDTH - BAR_WIDTH) / 2f;
+        float y = Constants.V_HEIGHT / 2f - BAR_HEIGHT;
+        shapes.setProjectionMatrix(camera.combined);
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(0.25f, 0.25f, 0.3f, 1f);
+        shapes.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+        shapes.setColor(1f, 1f, 0.5f, 1f);
+        shapes.rect(x, y, BAR_WIDTH * progress, BAR_HEIGHT);
+        shapes.end();
+
+        game.batch.setProjectionMatrix(camera.combined);
+        game.batch.begin();
+        layout.setText(game.font, "Loading...");
+        game.font.draw(game.batch, layout, (Constants.V_WIDTH - layout.width) / 2f, y + BAR_HEIGHT + 40);
+        game.batch.end();
+    }
+
+    @Override
+    public void dispose() {
+        shapes.dispose();
+    }
+}
@@ -28,6 +28,10 @@ public class MenuScreen extends ScreenAdapter {
     
     private int selectedButton = 0; // 0 - Play, 1 - Settings, 2 - Exit
 
+    // Reused every frame so the menu doesn't allocate while idle
+    private final GlyphLayout layout = new GlyphLayout();
+    private final Vector3 touchPos = new Vector3();
+
     public MenuScreen(GravityGame game) { 
         this.game = game;
         camera = new OrthographicCamera();
@@ -62,10 +66,9 @@ public class MenuScreen extends ScreenAdapter {
         game.batch.begin();
         
         // Draw title
-        String title = "Pixel Jump";
-        GlyphLayout titleLayout = new GlyphLayout(titleFont, title);
-        titleFont.draw(game.batch, title, 
-            (Constants.V_WIDTH - titleLayout.width) / 2f, 
+        layout.setText(titleFont, "Pixel Jump");
+        titleFont.draw(game.batch, layout, 
+            (Constants.V_WIDTH - layout.width) / 2f, 
             titleY);
         
         // Draw buttons
@@ -76,10 +79,6 @@ public class MenuScreen extends ScreenAdapter {
     }
     
     private void drawButton(String text, float x, float y, boolean selected) {
-        GlyphLayout layout = new GlyphLayout(font, text);
-        float textX = x - layout.width / 2f;
-        float textY = y + layout.height / 2f;
-        
         // Draw button background (simple rectangle)
         if (selected) {
             font.setColor(1f, 1f, 0.5f, 1f); // Yellow when selected
@@ -87,7 +86,10 @@ public class MenuScreen extends ScreenAdapter {
             font.setColor(1f, 1f, 1f, 1f); // White when not selected
         }
         
-        font.draw(game.batch, text, textX, textY);
+        layout.setText(font, text);
+        float textX = x - layout.width / 2f;
+        float textY = y + layout.height / 2f;
+        font.draw(game.batch, layout, textX, textY);
     }
     
     private void handleInput() {
@@ -101,7 +103,7 @@ public class MenuScreen extends ScreenAdapter {
         
         // Touch input for Android
         if (Gdx.input.justTouched()) {
-            Vector3 touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
+            touchPos.set(Gdx.input.getX(), Gdx.input.getY(), 0);
             camera.unproject(touchPos);
             
             // Check which button was touched
@@ -0,0 +1,476 @@
+package com.mygdx.gravity.simulation;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.mygdx.gravity.components.*;
+import com.mygdx.gravity.entities.EntityFactory;
+import com.mygdx.gravity.levels.CompiledLevel;
+import com.mygdx.gravity.levels.LevelData;
+import com.mygdx.gravity.levels.PlatformMerger;
+import com.mygdx.gravity.mechanics.GravityDirection;
+import com.mygdx.gravity.mechanics.GravityManager;
+import com.mygdx.gravity.mechanics.TimeManager;
+import com.mygdx.gravity.systems.*;
+import com.mygdx.gravity.utils.Constants;
+import com.mygdx.gravity.world.ActivationRegion;
+import com.mygdx.gravity.world.CollisionHandler;
+import com.mygdx.gravity.world.PhysicsWorld;
+
+/**
+ * GameSimulation - gameplay state of one level (physics world, mechanics and entities).
+ * Has no rendering or Gdx.input dependencies, so it runs on the headless backend too.
+ * Entities live in an Ashley engine; every tick runs its systems in priority order.
+ */
+public class GameSimulation {
+    private static final float RESPAWN_DELAY = 0.5f;
+    private static final float FALL_LIMIT_Y = -5f;
+    // values() copies the array on every call; restores index this one instead
+    private static final GravityDirection[] GRAVITY_DIRECTIONS = GravityDirection.values();
+
+    // System priorities (lower runs first)
+    private static final int PRIORITY_PLAYER = 0;
+    private static final int PRIORITY_PATROL = 1;
+    private static final int PRIORITY_VANISHING = 2;
+    private static final int PRIORITY_DAMPING = 3;
+    private static final int PRIORITY_PHYSICS = 4;
+    private static final int PRIORITY_CONTACTS = 5;
+    private static final int PRIORITY_SYNC = 6;
+
+    private final PhysicsWorld physics;
+    private final GravityManager gravity;
+    private final TimeManager time;
+    private final CollisionHandler collisionHandler;
+    private final Engine engine = new Engine();
+    private final EntityFactory factory;
+    private final PlayerControlSystem playerControl;
+    private final ActivationRegion activation = new ActivationRegion();
+    private boolean regionActivation = true;
+    private boolean mergeStaticGeometry = true;
+
+    private Entity player;
+    private final Vector2 spawnPoint = new Vector2();
+    // Scratch vectors for handing compiled level data to the factory
+    private final Vector2 loadPosition = new Vector2();
+    private final Vector2 loadHalfSize = new Vector2();
+    private final Vector2 loadImpulse = new Vector2();
+    private final Vector2 loadPatrolStart = new Vector2();
+    private final Vector2 loadPatrolEnd = new Vector2();
+    private boolean needsRespawn = false;
+    private float respawnTimer = 0f;
+    private boolean levelComplete = false;
+
+    // Spike sprite size in pixels; hitboxes are fitted to it (0 = use level data)
+    private int spikeTextureWidth = 0;
+    private int spikeTextureHeight = 0;
+
+    // Jump presses are latched until the next tick runs
+    private boolean jumpLatched = false;
+
+    private int tickCount = 0;
+    private int deathCount = 0;
+    // Bumped by every loadLevel, so renderers know when the level geometry changed
+    private int levelLoads = 0;
+
+    // Every tick's input is appended here when recording (see Replay)
+    private InputScript recording;
+
+    // State right after loadLevel; restart() restores it
+    private final WorldSnapshot levelStart = new WorldSnapshot();
+
+    public GameSimulation() {
+        physics = new PhysicsWorld();
+        gravity = new GravityManager(physics.getWorld());
+        time = new TimeManager();
+
+        // register collision listener
+        collisionHandler = new CollisionHandler(gravity, time, this);
+        physics.getWorld().setContactListener(collisionHandler);
+
+        factory = new EntityFactory(engine, physics.getWorld());
+        playerControl = new PlayerControlSystem(gravity, PRIORITY_PLAYER);
+        engine.addSystem(playerControl);
+        engine.addSystem(new PatrolSystem(PRIORITY_PATROL));
+        engine.addSystem(new VanishingSystem(PRIORITY_VANISHING));
+        engine.addSystem(new DampingSystem(PRIORITY_DAMPING));
+        engine.addSystem(new PhysicsSystem(physics, time, PRIORITY_PHYSICS));
+        engine.addSystem(new ContactSystem(collisionHandler, PRIORITY_CONTACTS));
+        engine.addSystem(new PhysicsSyncSystem(PRIORITY_SYNC));
+    }
+
+    public void setSpikeTextureSize(int width, int height) {
+        this.spikeTextureWidth = width;
+        this.spikeTextureHeight = height;
+    }
+
+    /**
+     * Switches region-based activation on or off (on by default). When off,
+     * every body stays active for the whole level.
+     */
+    public void setRegionActivation(boolean enabled) {
+        if (!enabled && regionActivation) {
+            activation.wakeAll();
+        }
+        regionActivation = enabled;
+    }
+
+    /**
+     * Switches merging of touching platforms on or off (on by default, see
+     * PlatformMerger). Applies from the next loadLevel.
+     */
+    public void setMergeStaticGeometry(boolean enabled) {
+        mergeStaticGeometry = enabled;
+    }
+
+    /** Records the input of every following tick into the script (null stops recording). */
+    public void setRecording(InputScript recording) {
+        this.recording = recording;
+    }
+
+    public InputScript getRecording() { return recording; }
+
+    /**
+     * Builds the level, compiled on the spot with spike hitboxes fitted to
+     * the sprite size from setSpikeTextureSize (see CompiledLevel).
+     */
+    public void loadLevel(LevelData levelData) {
+        loadLevel(CompiledLevel.compile(levelData, spikeTextureWidth, spikeTextureHeight));
+    }
+
+    /**
+     * Builds a compiled level. If a level is already loaded, its entities are
+     * handed back to the factory first, so the same World and bodies are
+     * reused and only what the new level needs beyond them is created.
+     */
+    public void loadLevel(CompiledLevel level) {
+        unloadLevel();
+        levelLoads++;
+
+        // Store spawn point
+        spawnPoint.set(level.spawnX, level.spawnY);
+
+        // Create player
+        player = factory.createPlayer(spawnPoint);
+
+        // Touching NORMAL platforms become one static body per group
+        PlatformMerger.Group[] merged = new PlatformMerger.Group[level.platformCount()];
+        if (mergeStaticGeometry) {
+            for (PlatformMerger.Group group : PlatformMerger.merge(level)) {
+                if (group.members.size < 2) continue;
+                for (int i = 0; i < group.members.size; i++) {
+                    merged[group.members.get(i)] = group;
+                }
+            }
+        }
+
+        // Create platforms
+        float[] platforms = level.platforms;
+        for (int i = 0; i < level.platformCount(); i++) {
+            PlatformMerger.Group group = merged[i];
+            if (group != null) {
+                // Built once, when its first member comes up
+                if (group.members.first() == i) {
+                    factory.createPlatformGroup(level, group);
+                }
+                continue;
+            }
+            int o = i * CompiledLevel.PLATFORM_STRIDE;
+            loadPosition.set(platforms[o], platforms[o + 1]);
+            loadHalfSize.set(platforms[o + 2], platforms[o + 3]);
+            switch (level.platformType(i)) {
+                case VANISHING:
+                    factory.createVanishingPlatform(loadPosition, loadHalfSize);
+                    break;
+                case IMPULSE:
+                    factory.createImpulsePlatform(loadPosition, loadHalfSize,
+                        loadImpulse.set(platforms[o + 5], platforms[o + 6]));
+                    break;
+                default:
+                    factory.createPlatform(loadPosition, loadHalfSize, platforms[o + 4]);
+                    break;
+            }
+        }
+
+        // Create spikes (hitbox sizes are compiled in)
+        for (int i = 0; i < level.spikeCount(); i++) {
+            factory.createSpike(position(level.spikes, i), halfSize(level.spikes, i));
+        }
+
+        // Create gravity zones
+        for (int i = 0; i < level.gravityZoneCount(); i++) {
+            factory.createGravityZone(position(level.gravityZones, i), halfSize(level.gravityZones, i),
+                level.gravityDirection(i));
+        }
+
+        // Create time slow zones
+        for (int i = 0; i < level.timeSlowZoneCount(); i++) {
+            factory.createTimeSlowZone(position(level.timeSlowZones, i), halfSize(level.timeSlowZones, i));
+        }
+
+        // Create enemies, patrolling between the x positions compiled in
+        float[] enemies = level.enemies;
+        for (int i = 0; i < level.enemyCount(); i++) {
+            int o = i * CompiledLevel.ENEMY_STRIDE;
+            loadPosition.set(enemies[o], enemies[o + 1]);
+            loadHalfSize.set(enemies[o + 2], enemies[o + 3]);
+            factory.createEnemy(loadPosition, loadHalfSize,
+                loadPatrolStart.set(enemies[o + 4], enemies[o + 1]), loadPatrolEnd.set(enemies[o + 5], enemies[o + 1]));
+        }
+
+        // Create boxes
+        for (int i = 0; i < level.boxCount(); i++) {
+            factory.createBox(position(level.boxes, i), halfSize(level.boxes, i));
+        }
+
+        // Create finish zone
+        factory.createFinish(loadPosition.set(level.finishX, level.finishY), loadHalfSize.set(1f, 1f));
+
+        // Reset gravity to default
+        gravity.set(GravityDirection.DOWN);
+
+        // Bucket entities for region activation
+        activation.build(engine.getEntitiesFor(Families.ACTIVATABLE));
+
+        capture(levelStart);
+    }
+
+    // Position and half size of the i-th box of a compiled array, in the scratch vectors
+    private Vector2 position(float[] boxes, int i) {
+        int o = i * CompiledLevel.BOX_STRIDE;
+        return loadPosition.set(boxes[o], boxes[o + 1]);
+    }
+
+    private Vector2 halfSize(float[] boxes, int i) {
+        int o = i * CompiledLevel.BOX_STRIDE;
+        return loadHalfSize.set(boxes[o + 2], boxes[o + 3]);
+    }
+
+    /** Parks every entity of the current level in the factory and resets the level state. */
+    private void unloadLevel() {
+        ImmutableArray<Entity> entities = engine.getEntities();
+        for (int i = 0; i < entities.size(); i++) {
+            factory.release(entities.get(i));
+        }
+        engine.removeAllEntities();
+        player = null;
+
+        // Switching the bodies off ended their contacts; those events belong to the old level
+        collisionHandler.clearContacts();
+        time.reset();
+        needsRespawn = false;
+        respawnTimer = 0f;
+        levelComplete = false;
+        jumpLatched = false;
+        tickCount = 0;
+        deathCount = 0;
+    }
+
+    /** Copies the state of every entity and the level mechanics into the snapshot. */
+    public void capture(WorldSnapshot snapshot) {
+        snapshot.clear();
+        ImmutableArray<Entity> bodies = engine.getEntitiesFor(Families.BODIES);
+        for (int i = 0; i < bodies.size(); i++) {
+            Mappers.body.get(bodies.get(i)).write(snapshot);
+        }
+        ImmutableArray<Entity> drawn = engine.getEntitiesFor(Families.DRAWN);
+        for (int i = 0; i < drawn.size(); i++) {
+            Mappers.appearance.get(drawn.get(i)).write(snapshot);
+        }
+        ImmutableArray<Entity> players = engine.getEntitiesFor(Families.PLAYERS);
+        for (int i = 0; i < players.size(); i++) {
+            Mappers.player.get(players.get(i)).write(snapshot);
+        }
+        ImmutableArray<Entity> patrols = engine.getEntitiesFor(Families.PATROLS);
+        for (int i = 0; i < patrols.size(); i++) {
+            Mappers.patrol.get(patrols.get(i)).write(snapshot);
+        }
+        ImmutableArray<Entity> killables = engine.getEntitiesFor(Families.KILLABLES);
+        for (int i = 0; i < killables.size(); i++) {
+            Mappers.killable.get(killables.get(i)).write(snapshot);
+        }
+        ImmutableArray<Entity> vanishing = engine.getEntitiesFor(Families.VANISHING);
+        for (int i = 0; i < vanishing.size(); i++) {
+            Mappers.vanishing.get(vanishing.get(i)).write(snapshot);
+        }
+        snapshot.putFloat(gravity.get().ordinal());
+        snapshot.putBoolean(time.get() != 1f);
+        snapshot.putBoolean(needsRespawn);
+        snapshot.putFloat(respawnTimer);
+        snapshot.putBoolean(levelComplete);
+    }
+
+    /**
+     * Puts every entity back into the state captured from this level. Bodies
+     * are only moved and switched on or off, none are created or destroyed.
+     * Must not be called during a physics step.
+     */
+    public void restore(WorldSnapshot snapshot) {
+        snapshot.rewind();
+        activation.wakeAll();
+        ImmutableArray<Entity> bodies = engine.getEntitiesFor(Families.BODIES);
+        for (int i = 0; i < bodies.size(); i++) {
+            Entity entity = bodies.get(i);
+            BodyComponent body = Mappers.body.get(entity);
+            body.read(snapshot);
+            TransformComponent transform = Mappers.transform.get(entity);
+            if (transform != null) {
+                transform.reset(body.body.getPosition());
+            }
+        }
+        ImmutableArray<Entity> drawn = engine.getEntitiesFor(Families.DRAWN);
+        for (int i = 0; i < drawn.size(); i++) {
+            Mappers.appearance.get(drawn.get(i)).read(snapshot);
+        }
+        ImmutableArray<Entity> players = engine.getEntitiesFor(Families.PLAYERS);
+        for (int i = 0; i < players.size(); i++) {
+            Mappers.player.get(players.get(i)).read(snapshot);
+        }
+        ImmutableArray<Entity> patrols = engine.getEntitiesFor(Families.PATROLS);
+        for (int i = 0; i < patrols.size(); i++) {
+            Mappers.patrol.get(patrols.get(i)).read(snapshot);
+        }
+        ImmutableArray<Entity> killables = engine.getEntitiesFor(Families.KILLABLES);
+        for (int i = 0; i < killables.size(); i++) {
+            Mappers.killable.get(killables.get(i)).read(snapshot);
+        }
+        ImmutableArray<Entity> vanishing = engine.getEntitiesFor(Families.VANISHING);
+        for (int i = 0; i < vanishing.size(); i++) {
+            Mappers.vanishing.get(vanishing.get(i)).read(snapshot);
+        }
+        gravity.set(GRAVITY_DIRECTIONS[(int) snapshot.getFloat()]);
+        time.setSlow(snapshot.getBoolean());
+        needsRespawn = snapshot.getBoolean();
+        respawnTimer = snapshot.getFloat();
+        levelComplete = snapshot.getBoolean();
+        jumpLatched = false;
+        activation.reset(engine.getEntitiesFor(Families.ACTIVATABLE));
+        // Contacts ended by switching bodies off above are superseded by the snapshot
+        collisionHandler.clearContacts();
+    }
+
+    /** Puts the level back into its initial state. */
+    public void restart() {
+        restore(levelStart);
+    }
+
+    /**
+     * Runs as many fixed steps as the frame time allows (see PhysicsWorld.accumulate).
+     * A jump in the input is latched until the next step, so it isn't lost on
+     * frames that run no step. Returns the number of steps run.
+     */
+    public int advance(float frameDelta, int input) {
+        if (PlayerInput.jump(input)) {
+            jumpLatched = true;
+        }
+        int steps = physics.accumulate(frameDelta);
+        for (int i = 0; i < steps; i++) {
+            int tickInput = input & ~PlayerInput.JUMP;
+            if (jumpLatched) {
+                tickInput |= PlayerInput.JUMP;
+                jumpLatched = false;
+            }
+            if (!tick(tickInput)) {
+                return i + 1;
+            }
+        }
+        return steps;
+    }
+
+    /**
+     * Advances the simulation by one fixed step with the given input.
+     * Returns false once the level is complete and no further steps should run.
+     */
+    public boolean tick(int input) {
+        if (levelComplete) {
+            return false;
+        }
+        float delta = Constants.PHYSICS_TIME_STEP;
+        tickCount++;
+        if (recording != null) {
+            recording.hold(input, 1);
+        }
+
+        // Handle respawn
+        if (needsRespawn) {
+            respawnTimer += delta;
+            if (respawnTimer >= RESPAWN_DELAY) {
+                respawnPlayer();
+                needsRespawn = false;
+                respawnTimer = 0f;
+            }
+        }
+
+        // Check if player fell off the map
+        if (player != null) {
+            Vector2 playerPos = getPlayerBody().getPosition();
+            // If player falls below -5 meters, respawn
+            if (playerPos.y < FALL_LIMIT_Y) {
+                triggerRespawn();
+            }
+        }
+
+        playerControl.setInput(input);
+
+        // Only bodies around the camera (which follows the player) stay active
+        if (player != null && regionActivation) {
+            Vector2 playerPos = getPlayerBody().getPosition();
+            activation.update(playerPos.x, playerPos.y);
+        }
+
+        // Control, patrols, vanishing timers and damping, then the physics step,
+        // the contacts it reported and transform sync
+        engine.update(delta);
+
+        return !levelComplete;
+    }
+
+    public void triggerRespawn() {
+        if (!needsRespawn) {
+            needsRespawn = true;
+            respawnTimer = 0f;
+            deathCount++;
+        }
+    }
+
+    private void respawnPlayer() {
+        if (player == null) return;
+
+        // Reset player position and velocity; the rest of the level stays as it is
+        Body body = getPlayerBody();
+        body.setTransform(spawnPoint, 0);
+        body.setLinearVelocity(0, 0);
+        body.setAngularVelocity(0);
+        getPlayerTransform().reset(spawnPoint);
+
+        // Reset gravity to default
+        gravity.set(GravityDirection.DOWN);
+    }
+
+    public void queueLevelComplete() {
+        // Only flagged here; callers react once the tick is over
+        levelComplete = true;
+    }
+
+    public boolean isLevelComplete() { return levelComplete; }
+
+    public float getAlpha() { return physics.getAlpha(); }
+
+    public Engine getEngine() { return engine; }
+    public Entity getPlayer() { return player; }
+    public Body getPlayerBody() { return Mappers.body.get(player).body; }
+    public TransformComponent getPlayerTransform() { return Mappers.transform.get(player); }
+    public PhysicsWorld getPhysics() { return physics; }
+    public GravityManager getGravity() { return gravity; }
+    public TimeManager getTime() { return time; }
+    public CollisionHandler getCollisionHandler() { return collisionHandler; }
+    public EntityFactory getFactory() { return factory; }
+    public int getTickCount() { return tickCount; }
+    public int getLevelLoads() { return levelLoads; }
+    public int getDeathCount() { return deathCount; }
+
+    public void dispose() {
+        physics.dispose();
+    }
+}
@@ -0,0 +1,92 @@
+package com.mygdx.gravity.simulation;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Scripted input stream: a list of (input, duration in ticks) segments.
+ * Ticks past the end of the script get no input.
+ */
+public class InputScript {
+    private final IntArray inputs;
+    private final IntArray endTicks; // exclusive end tick of each segment
+    private int length = 0;
+
+    public InputScript() {
+        this(16);
+    }
+
+    /**
+     * Script with room for the given number of segments, so recording into it
+     * doesn't allocate until that many input changes have been held.
+     */
+    public InputScript(int segments) {
+        inputs = new IntArray(segments);
+        endTicks = new IntArray(segments);
+    }
+
+    /** Holds the given input for a number of ticks. */
+    public InputScript hold(int input, int ticks) {
+        if (ticks <= 0) return this;
+        int last = inputs.size - 1;
+        if (last >= 0 && inputs.get(last) == input) {
+            length += ticks;
+            endTicks.set(last, length);
+        } else {
+            length += ticks;
+            inputs.add(input);
+            endTicks.add(length);
+        }
+        return this;
+    }
+
+    /** Empties the script, keeping its capacity. */
+    public void clear() {
+        inputs.clear();
+        endTicks.clear();
+        length = 0;
+    }
+
+    /** Idles for a number of ticks. */
+    public InputScript idle(int ticks) {
+        return hold(PlayerInput.NONE, ticks);
+    }
+
+    /** Presses jump for a single tick while holding the given direction. */
+    public InputScript jump(int input) {
+        return hold(input | PlayerInput.JUMP, 1);
+    }
+
+    /** Input for the given tick. Safe to call from several threads at once. */
+    public int inputAt(int tick) {
+        if (tick < 0 || tick >= length) return PlayerInput.NONE;
+        // Binary search for the first segment ending after the tick
+        int lo = 0;
+        int hi = endTicks.size - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (endTicks.get(mid) > tick) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return inputs.get(lo);
+    }
+
+    /** Total scripted ticks. */
+    public int length() {
+        return length;
+    }
+
+    public int segmentCount() {
+        return inputs.size;
+    }
+
+    public int segmentInput(int index) {
+        return inputs.get(index);
+    }
+
+    public int segmentTicks(int index) {
+        return endTicks.get(index) - (index > 0 ? endTicks.get(index - 1) : 0);
+    }
+}
@@ -0,0 +1,53 @@
+package com.mygdx.gravity.simulation;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.mygdx.gravity.levels.LevelData;
+
+/**
+ * LevelRunner - runs a level from scripted input as fast as the CPU allows.
+ * Every run uses a fresh GameSimulation and fixed steps, so the same level,
+ * script and tick budget always give the same result.
+ */
+public class LevelRunner {
+    private int spikeTextureWidth = 0;
+    private int spikeTextureHeight = 0;
+
+    /** Spike sprite size in pixels, so hitboxes match the ones GameScreen builds. */
+    public LevelRunner setSpikeTextureSize(int width, int height) {
+        this.spikeTextureWidth = width;
+        this.spikeTextureHeight = height;
+        return this;
+    }
+
+    /** Re-simulates a recorded session, tick for tick. */
+    public RunResult run(LevelData levelData, Replay replay) {
+        return run(replay.levelIndex, levelData, replay.script, replay.length());
+    }
+
+    /**
+     * Runs the level until it is completed or maxTicks steps have run.
+     */
+    public RunResult run(int levelIndex, LevelData levelData, InputScript script, int maxTicks) {
+        GameSimulation simulation = new GameSimulation();
+        try {
+            simulation.setSpikeTextureSize(spikeTextureWidth, spikeTextureHeight);
+            simulation.loadLevel(levelData);
+
+            long start = TimeUtils.nanoTime();
+            int tick = 0;
+            while (tick < maxTicks) {
+                boolean running = simulation.tick(script.inputAt(tick));
+                tick++;
+                if (!running) break;
+            }
+            long elapsed = TimeUtils.nanoTime() - start;
+
+            Vector2 pos = simulation.getPlayerBody().getPosition();
+            return new RunResult(levelIndex, tick, simulation.isLevelComplete(),
+                simulation.getDeathCount(), pos.x, pos.y, elapsed);
+        } finally {
+            simulation.dispose();
+        }
+    }
+}
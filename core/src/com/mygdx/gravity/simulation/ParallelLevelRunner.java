@@ -0,0 +1,92 @@
+package com.mygdx.gravity.simulation;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.mygdx.gravity.levels.LevelData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ParallelLevelRunner - runs many independent simulations of a level at once.
+ * Each run builds its own GameSimulation (own Box2D world and entities) on a
+ * worker thread, so nothing is shared between runs except the read-only
+ * LevelData and input scripts.
+ */
+public class ParallelLevelRunner {
+    private final ExecutorService pool;
+    private final int threads;
+    private int spikeTextureWidth = 0;
+    private int spikeTextureHeight = 0;
+
+    /** A runner with one worker per available core. */
+    public ParallelLevelRunner() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelLevelRunner(int threads) {
+        this.threads = Math.max(1, threads);
+        final AtomicInteger count = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(this.threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "simulation-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /** Spike sprite size in pixels, see LevelRunner.setSpikeTextureSize. */
+    public ParallelLevelRunner setSpikeTextureSize(int width, int height) {
+        this.spikeTextureWidth = width;
+        this.spikeTextureHeight = height;
+        return this;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Runs the level once per script, concurrently, and waits for the whole batch.
+     * Results are in script order.
+     */
+    public RunResult[] runBatch(final int levelIndex, final LevelData levelData,
+                                InputScript[] scripts, final int maxTicks) {
+        List<Future<RunResult>> futures = new ArrayList<>(scripts.length);
+        for (final InputScript script : scripts) {
+            futures.add(pool.submit(new Callable<RunResult>() {
+                @Override
+                public RunResult call() {
+                    return new LevelRunner()
+                        .setSpikeTextureSize(spikeTextureWidth, spikeTextureHeight)
+                        .run(levelIndex, levelData, script, maxTicks);
+                }
+            }));
+        }
+
+        RunResult[] results = new RunResult[scripts.length];
+        try {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = futures.get(i).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GdxRuntimeException("Interrupted while waiting for simulations", e);
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException("Simulation failed", e.getCause());
+        }
+        return results;
+    }
+
+    public void dispose() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,25 @@
+package com.mygdx.gravity.simulation;
+
+/**
+ * Player input for one simulation tick, packed into an int bitmask.
+ */
+public final class PlayerInput {
+    private PlayerInput() {}
+
+    public static final int NONE = 0;
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int JUMP = 1 << 2;
+
+    public static int of(boolean left, boolean right, boolean jump) {
+        int bits = NONE;
+        if (left) bits |= LEFT;
+        if (right) bits |= RIGHT;
+        if (jump) bits |= JUMP;
+        return bits;
+    }
+
+    public static boolean left(int bits) { return (bits & LEFT) != 0; }
+    public static boolean right(int bits) { return (bits & RIGHT) != 0; }
+    public static boolean jump(int bits) { return (bits & JUMP) != 0; }
+}
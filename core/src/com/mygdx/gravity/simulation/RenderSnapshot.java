@@ -0,0 +1,144 @@
+package com.mygdx.gravity.simulation;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.mygdx.gravity.components.AppearanceComponent;
+import com.mygdx.gravity.components.Families;
+import com.mygdx.gravity.components.Mappers;
+import com.mygdx.gravity.components.TransformComponent;
+
+/**
+ * RenderSnapshot - everything the renderer needs from one simulation step,
+ * copied into primitive arrays so it can be drawn while the simulation moves
+ * on (see SimulationLoop). Entry i is the i-th drawn entity; positions are
+ * in meters, with the previous step's position kept for interpolation.
+ */
+public class RenderSnapshot {
+    private int count = 0;
+
+    private float[] x = new float[0];
+    private float[] y = new float[0];
+    private float[] prevX = new float[0];
+    private float[] prevY = new float[0];
+    private int[] sprite = new int[0];
+    private float[] width = new float[0];
+    private float[] height = new float[0];
+    private float[] r = new float[0];
+    private float[] g = new float[0];
+    private float[] b = new float[0];
+    private float[] a = new float[0];
+    private boolean[] visible = new boolean[0];
+    private boolean[] flipX = new boolean[0];
+    private boolean[] animating = new boolean[0];
+    private float[] stateTime = new float[0];
+    private boolean[] fixed = new boolean[0];
+
+    // Player position, which the camera follows
+    private boolean hasFocus = false;
+    private float focusX, focusY, prevFocusX, prevFocusY;
+
+    // Interpolation factor left in the accumulator when the snapshot was taken
+    private float alpha = 0f;
+    private long captureNanos = 0L;
+    private boolean levelComplete = false;
+    private int level = 0;
+
+    /** Copies the drawn entities and the player out of the simulation. */
+    public void capture(GameSimulation simulation, long nanos) {
+        ImmutableArray<Entity> drawn = simulation.getEngine().getEntitiesFor(Families.DRAWN);
+        ensureCapacity(drawn.size());
+        count = drawn.size();
+        for (int i = 0; i < count; i++) {
+            Entity entity = drawn.get(i);
+            TransformComponent transform = Mappers.transform.get(entity);
+            AppearanceComponent appearance = Mappers.appearance.get(entity);
+            x[i] = transform.x;
+            y[i] = transform.y;
+            prevX[i] = transform.prevX;
+            prevY[i] = transform.prevY;
+            sprite[i] = appearance.sprite;
+            width[i] = appearance.width;
+            height[i] = appearance.height;
+            r[i] = appearance.r;
+            g[i] = appearance.g;
+            b[i] = appearance.b;
+            a[i] = appearance.a;
+            visible[i] = appearance.visible;
+            flipX[i] = appearance.flipX;
+            animating[i] = appearance.animating;
+            stateTime[i] = appearance.stateTime;
+            fixed[i] = appearance.fixed;
+        }
+
+        hasFocus = simulation.getPlayer() != null;
+        if (hasFocus) {
+            TransformComponent player = simulation.getPlayerTransform();
+            focusX = player.x;
+            focusY = player.y;
+            prevFocusX = player.prevX;
+            prevFocusY = player.prevY;
+        }
+        alpha = simulation.getAlpha();
+        captureNanos = nanos;
+        levelComplete = simulation.isLevelComplete();
+        level = simulation.getLevelLoads();
+    }
+
+    private void ensureCapacity(int size) {
+        if (size <= x.length) return;
+        int capacity = Math.max(size, x.length * 2);
+        x = new float[capacity];
+        y = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        sprite = new int[capacity];
+        width = new float[capacity];
+        height = new float[capacity];
+        r = new float[capacity];
+        g = new float[capacity];
+        b = new float[capacity];
+        a = new float[capacity];
+        visible = new boolean[capacity];
+        flipX = new boolean[capacity];
+        animating = new boolean[capacity];
+        stateTime = new float[capacity];
+        fixed = new boolean[capacity];
+    }
+
+    public int size() { return count; }
+
+    public float getInterpolatedX(int i, float alpha) { return prevX[i] + (x[i] - prevX[i]) * alpha; }
+    public float getInterpolatedY(int i, float alpha) { return prevY[i] + (y[i] - prevY[i]) * alpha; }
+    public int getSprite(int i) { return sprite[i]; }
+    public float getWidth(int i) { return width[i]; }
+    public float getHeight(int i) { return height[i]; }
+    public float getR(int i) { return r[i]; }
+    public float getG(int i) { return g[i]; }
+    public float getB(int i) { return b[i]; }
+    public float getA(int i) { return a[i]; }
+    public boolean isVisible(int i) { return visible[i]; }
+    public boolean isFlipX(int i) { return flipX[i]; }
+    public boolean isAnimating(int i) { return animating[i]; }
+    public float getStateTime(int i) { return stateTime[i]; }
+    public boolean isFixed(int i) { return fixed[i]; }
+
+    public boolean hasFocus() { return hasFocus; }
+    public float getFocusX(float alpha) { return prevFocusX + (focusX - prevFocusX) * alpha; }
+    public float getFocusY(float alpha) { return prevFocusY + (focusY - prevFocusY) * alpha; }
+
+    public boolean isLevelComplete() { return levelComplete; }
+    /** Changes whenever a level was loaded (see GameSimulation.getLevelLoads). */
+    public int getLevel() { return level; }
+
+    /** Interpolation factor left in the accumulator when the snapshot was taken. */
+    public float getAlpha() { return alpha; }
+
+    /**
+     * Interpolation factor for drawing at the given time: what was left in the
+     * accumulator at capture, plus the time since, in fixed steps (at most 1).
+     */
+    public float getAlpha(long nanos, long stepNanos) {
+        float elapsed = (nanos - captureNanos) / (float) stepNanos;
+        return Math.min(1f, alpha + Math.max(0f, elapsed));
+    }
+}
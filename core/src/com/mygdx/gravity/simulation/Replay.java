@@ -0,0 +1,113 @@
+package com.mygdx.gravity.simulation;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Replay - the input of one level session, one entry per fixed tick.
+ * Stored as run-length segments: each segment is a single varint holding
+ * (ticks << 3) | input, so a held direction costs one or two bytes however
+ * long it is held.
+ *
+ * File layout: "GRRP" magic, version byte, varint level index,
+ * varint segment count, then the segments.
+ */
+public class Replay {
+    private static final int MAGIC = 0x47525250; // "GRRP"
+    private static final int VERSION = 1;
+    private static final int INPUT_BITS = 3;
+    private static final int INPUT_MASK = (1 << INPUT_BITS) - 1;
+
+    public final int levelIndex;
+    public final InputScript script;
+
+    public Replay(int levelIndex, InputScript script) {
+        this.levelIndex = levelIndex;
+        this.script = script;
+    }
+
+    /** Number of recorded ticks. */
+    public int length() {
+        return script.length();
+    }
+
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + script.segmentCount() * 2);
+        out.write(MAGIC >>> 24);
+        out.write(MAGIC >>> 16);
+        out.write(MAGIC >>> 8);
+        out.write(MAGIC);
+        out.write(VERSION);
+        writeVarInt(out, levelIndex);
+        writeVarInt(out, script.segmentCount());
+        for (int i = 0; i < script.segmentCount(); i++) {
+            long packed = ((long) script.segmentTicks(i) << INPUT_BITS) | (script.segmentInput(i) & INPUT_MASK);
+            writeVarInt(out, packed);
+        }
+        return out.toByteArray();
+    }
+
+    public static Replay fromBytes(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        int magic = (in.next() << 24) | (in.next() << 16) | (in.next() << 8) | in.next();
+        if (magic != MAGIC) {
+            throw new GdxRuntimeException("Not a replay file");
+        }
+        int version = in.next();
+        if (version != VERSION) {
+            throw new GdxRuntimeException("Unsupported replay version: " + version);
+        }
+        int levelIndex = (int) in.varInt();
+        int segments = (int) in.varInt();
+        InputScript script = new InputScript();
+        for (int i = 0; i < segments; i++) {
+            long packed = in.varInt();
+            script.hold((int) (packed & INPUT_MASK), (int) (packed >>> INPUT_BITS));
+        }
+        return new Replay(levelIndex, script);
+    }
+
+    public void save(FileHandle file) {
+        file.writeBytes(toBytes(), false);
+    }
+
+    public static Replay load(FileHandle file) {
+        return fromBytes(file.readBytes());
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static class Reader {
+        private final byte[] bytes;
+        private int position = 0;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int next() {
+            if (position >= bytes.length) {
+                throw new GdxRuntimeException("Replay file is truncated");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        long varInt() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = next();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new GdxRuntimeException("Malformed varint in replay file");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.mygdx.gravity.simulation;
+
+/**
+ * Outcome of a LevelRunner run.
+ */
+public class RunResult {
+    public final int levelIndex;
+    public final int ticks;
+    public final boolean completed;
+    public final int deaths;
+    public final float playerX;
+    public final float playerY;
+    public final long elapsedNanos;
+
+    public RunResult(int levelIndex, int ticks, boolean completed, int deaths,
+                     float playerX, float playerY, long elapsedNanos) {
+        this.levelIndex = levelIndex;
+        this.ticks = ticks;
+        this.completed = completed;
+        this.deaths = deaths;
+        this.playerX = playerX;
+        this.playerY = playerY;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public double ticksPerSecond() {
+        return elapsedNanos > 0 ? ticks * 1e9 / elapsedNanos : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "level=" + (levelIndex + 1)
+            + " ticks=" + ticks
+            + " completed=" + completed
+            + " deaths=" + deaths
+            + " player=(" + playerX + ", " + playerY + ")"
+            + " ticks/s=" + (long) ticksPerSecond();
+    }
+}
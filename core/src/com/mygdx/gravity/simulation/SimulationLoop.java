@@ -0,0 +1,173 @@
+package com.mygdx.gravity.simulation;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.mygdx.gravity.utils.Constants;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * SimulationLoop - runs a GameSimulation in fixed steps, either on its own
+ * thread (start) or on the caller's thread once per frame (update), and
+ * publishes a RenderSnapshot after every batch of steps.
+ *
+ * Snapshots are triple buffered: the simulation fills the back buffer and
+ * swaps it with the middle one, the renderer swaps the middle one with its
+ * front buffer when a newer snapshot is there. Neither side ever waits on
+ * the other. Anything else that touches the simulation from another thread
+ * (loading a level, restarting, the recording) must hold getLock().
+ */
+public class SimulationLoop implements Runnable {
+    public static final long STEP_NANOS = (long) (Constants.PHYSICS_TIME_STEP * 1000000000L);
+
+    private static final int INDEX = 3;
+    // Set on the middle index while the renderer hasn't taken it yet
+    private static final int FRESH = 4;
+
+    private final GameSimulation simulation;
+    private final Object lock = new Object();
+    private final RenderSnapshot[] buffers = {new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()};
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;  // simulation side, under lock
+    private int front = 2; // render side
+
+    // Input written by the render thread
+    private volatile int held = 0;
+    private final AtomicBoolean jumpPending = new AtomicBoolean(false);
+
+    private volatile boolean paused = false;
+    private volatile boolean running = false;
+    private volatile RuntimeException failure;
+    private Thread thread;
+
+    public SimulationLoop(GameSimulation simulation) {
+        this.simulation = simulation;
+    }
+
+    /** Starts stepping the simulation on a daemon thread until stop is called. */
+    public void start() {
+        if (thread != null) return;
+        running = true;
+        thread = new Thread(this, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Stops the simulation thread and waits for the current step to finish. */
+    public void stop() {
+        if (thread == null) return;
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    public boolean isThreaded() { return thread != null; }
+
+    @Override
+    public void run() {
+        long last = TimeUtils.nanoTime();
+        try {
+            while (running) {
+                long now = TimeUtils.nanoTime();
+                if (paused) {
+                    // Don't count the pause as frame time once it's over
+                    last = now;
+                    LockSupport.parkNanos(STEP_NANOS);
+                    continue;
+                }
+                float alpha = step((now - last) / 1000000000f, now);
+                last = now;
+
+                // Sleep until the next step is due
+                LockSupport.parkNanos(STEP_NANOS - (long) (alpha * STEP_NANOS));
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Runs the steps due after a frame of the given length on the calling
+     * thread. Does nothing while the simulation thread is running.
+     */
+    public void update(float delta) {
+        if (thread != null || paused) return;
+        step(delta, TimeUtils.nanoTime());
+    }
+
+    /** Runs the due steps and publishes them. Returns the fraction of a step left over. */
+    private float step(float delta, long now) {
+        synchronized (lock) {
+            int input = held;
+            if (jumpPending.getAndSet(false)) {
+                input |= PlayerInput.JUMP;
+            }
+            simulation.advance(delta, input);
+            publish(now);
+            return simulation.getAlpha();
+        }
+    }
+
+    /**
+     * Sets the held buttons for the next steps. A jump stays pending until a
+     * step has taken it, however many frames that takes.
+     */
+    public void setInput(int input) {
+        held = input & ~PlayerInput.JUMP;
+        if (PlayerInput.jump(input)) {
+            jumpPending.set(true);
+        }
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        if (!paused) {
+            jumpPending.set(false);
+        }
+    }
+
+    /** Publishes the current state, e.g. right after a level was loaded. */
+    public void publish() {
+        synchronized (lock) {
+            publish(TimeUtils.nanoTime());
+        }
+    }
+
+    private void publish(long now) {
+        buffers[back].capture(simulation, now);
+        back = middle.getAndSet(back | FRESH) & INDEX;
+    }
+
+    /** The newest published snapshot. Render thread only; valid until the next call. */
+    public RenderSnapshot acquire() {
+        if (failure != null) {
+            throw new GdxRuntimeException("Simulation thread failed", failure);
+        }
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX;
+        }
+        return buffers[front];
+    }
+
+    /**
+     * Interpolation factor to draw a snapshot with. On the simulation thread
+     * the steps go on while the frame is drawn, so the time since the capture
+     * is added; paused or on the render thread it is the captured one.
+     */
+    public float getAlpha(RenderSnapshot snapshot) {
+        if (thread == null || paused) return snapshot.getAlpha();
+        return snapshot.getAlpha(TimeUtils.nanoTime(), STEP_NANOS);
+    }
+
+    /** Held by every batch of steps; hold it to change the simulation from another thread. */
+    public Object getLock() { return lock; }
+
+    public GameSimulation getSimulation() { return simulation; }
+}
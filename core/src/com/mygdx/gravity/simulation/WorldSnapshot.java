@@ -0,0 +1,48 @@
+package com.mygdx.gravity.simulation;
+
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * WorldSnapshot - flat copy of the simulation state (see GameSimulation.capture).
+ * Every entity writes its body transform, velocities and flags followed by its
+ * own gameplay state, in entity order; booleans are stored as 0/1. The buffer
+ * is reused between captures, so snapshotting the same level again allocates nothing.
+ */
+public class WorldSnapshot {
+    private final FloatArray data = new FloatArray(256);
+    private int readIndex = 0;
+
+    void clear() {
+        data.clear();
+        readIndex = 0;
+    }
+
+    void rewind() {
+        readIndex = 0;
+    }
+
+    public void putFloat(float value) {
+        data.add(value);
+    }
+
+    public void putBoolean(boolean value) {
+        data.add(value ? 1f : 0f);
+    }
+
+    public float getFloat() {
+        return data.get(readIndex++);
+    }
+
+    public boolean getBoolean() {
+        return data.get(readIndex++) != 0f;
+    }
+
+    /** Number of floats in the snapshot. */
+    public int size() {
+        return data.size;
+    }
+
+    public boolean isEmpty() {
+        return data.size == 0;
+    }
+}
@@ -0,0 +1,19 @@
+package com.mygdx.gravity.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.mygdx.gravity.world.CollisionHandler;
+
+/** Runs the contact handlers for the events queued during the physics step. */
+public class ContactSystem extends EntitySystem {
+    private final CollisionHandler collisionHandler;
+
+    public ContactSystem(CollisionHandler collisionHandler, int priority) {
+        super(priority);
+        this.collisionHandler = collisionHandler;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        collisionHandler.processContacts();
+    }
+}
@@ -0,0 +1,25 @@
+package com.mygdx.gravity.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector2;
+import com.mygdx.gravity.components.BodyComponent;
+import com.mygdx.gravity.components.Families;
+import com.mygdx.gravity.components.Mappers;
+
+/** Applies damping to prevent boxes from sliding forever. */
+public class DampingSystem extends IteratingSystem {
+
+    public DampingSystem(int priority) {
+        super(Families.DAMPED, priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        BodyComponent body = Mappers.body.get(entity);
+        if (body.dormant) return;
+        Vector2 vel = body.body.getLinearVelocity();
+        vel.scl(Mappers.damping.get(entity).factor);
+        body.body.setLinearVelocity(vel);
+    }
+}
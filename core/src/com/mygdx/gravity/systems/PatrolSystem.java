@@ -0,0 +1,88 @@
+package com.mygdx.gravity.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.mygdx.gravity.components.AppearanceComponent;
+import com.mygdx.gravity.components.BodyComponent;
+import com.mygdx.gravity.components.Families;
+import com.mygdx.gravity.components.KillableComponent;
+import com.mygdx.gravity.components.Mappers;
+import com.mygdx.gravity.components.PatrolComponent;
+
+/** Patrol AI - moves enemies from start to end and back. */
+public class PatrolSystem extends IteratingSystem {
+
+    public PatrolSystem(int priority) {
+        super(Families.PATROLS, priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        BodyComponent bodyComponent = Mappers.body.get(entity);
+        if (bodyComponent.dormant) return;
+        KillableComponent killable = Mappers.killable.get(entity);
+        if (killable != null && killable.dead) return;
+        Body body = bodyComponent.body;
+        if (!body.isActive()) return;
+
+        PatrolComponent patrol = Mappers.patrol.get(entity);
+        AppearanceComponent appearance = Mappers.appearance.get(entity);
+
+        // Update animation time for alive enemies
+        appearance.stateTime += deltaTime;
+
+        Vector2 currentPos = body.getPosition();
+
+        // Always fix Y coordinate to prevent flying
+        float currentX = currentPos.x;
+        if (Math.abs(currentPos.y - patrol.fixedY) > 0.01f) {
+            body.setTransform(currentX, patrol.fixedY, 0);
+            currentX = body.getPosition().x;
+        }
+
+        float targetX = patrol.movingRight ? patrol.endX : patrol.startX;
+
+        // Clamp current position to patrol bounds to prevent going outside platform
+        float minX = Math.min(patrol.startX, patrol.endX);
+        float maxX = Math.max(patrol.startX, patrol.endX);
+
+        if (currentX < minX) {
+            body.setTransform(minX, patrol.fixedY, 0);
+            currentX = minX;
+            patrol.movingRight = true;
+            targetX = patrol.endX;
+        } else if (currentX > maxX) {
+            body.setTransform(maxX, patrol.fixedY, 0);
+            currentX = maxX;
+            patrol.movingRight = false;
+            targetX = patrol.startX;
+        }
+
+        // Calculate direction to target
+        float dx = targetX - currentX;
+        float distance = Math.abs(dx);
+
+        // If reached target, turn around
+        if (distance < 0.1f) {
+            patrol.movingRight = !patrol.movingRight;
+            targetX = patrol.movingRight ? patrol.endX : patrol.startX;
+            dx = targetX - currentX;
+        }
+
+        // Move towards target
+        float newX;
+        if (Math.abs(dx) < patrol.speed * deltaTime) {
+            // Close enough, snap to target (but clamp to bounds)
+            newX = Math.max(minX, Math.min(maxX, targetX));
+        } else {
+            float moveX = (dx > 0 ? 1 : -1) * patrol.speed * deltaTime;
+            newX = Math.max(minX, Math.min(maxX, currentX + moveX));
+        }
+        // Always fix Y coordinate and use setTransform for full control
+        body.setTransform(newX, patrol.fixedY, 0);
+
+        appearance.flipX = !patrol.movingRight;
+    }
+}
@@ -0,0 +1,31 @@
+package com.mygdx.gravity.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector2;
+import com.mygdx.gravity.components.BodyComponent;
+import com.mygdx.gravity.components.Families;
+import com.mygdx.gravity.components.Mappers;
+import com.mygdx.gravity.components.TransformComponent;
+
+/**
+ * Copies body positions into transforms after the step, keeping the
+ * previous ones for render interpolation.
+ */
+public class PhysicsSyncSystem extends IteratingSystem {
+
+    public PhysicsSyncSystem(int priority) {
+        super(Families.MOVING, priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        BodyComponent body = Mappers.body.get(entity);
+        TransformComponent transform = Mappers.transform.get(entity);
+        Vector2 pos = body.body.getPosition();
+        transform.prevX = transform.x;
+        transform.prevY = transform.y;
+        transform.x = pos.x;
+        transform.y = pos.y;
+    }
+}
@@ -0,0 +1,22 @@
+package com.mygdx.gravity.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.mygdx.gravity.mechanics.TimeManager;
+import com.mygdx.gravity.world.PhysicsWorld;
+
+/** Steps the Box2D world once per update, scaled by the time manager. */
+public class PhysicsSystem extends EntitySystem {
+    private final PhysicsWorld physics;
+    private final TimeManager time;
+
+    public PhysicsSystem(PhysicsWorld physics, TimeManager time, int priority) {
+        super(priority);
+        this.physics = physics;
+        this.time = time;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        physics.step(deltaTime, time.get());
+    }
+}
@@ -0,0 +1,102 @@
+package com.mygdx.gravity.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.mygdx.gravity.components.AppearanceComponent;
+import com.mygdx.gravity.components.Families;
+import com.mygdx.gravity.components.Mappers;
+import com.mygdx.gravity.components.PlayerComponent;
+import com.mygdx.gravity.mechanics.GravityDirection;
+import com.mygdx.gravity.mechanics.GravityManager;
+import com.mygdx.gravity.simulation.PlayerInput;
+import com.mygdx.gravity.utils.Constants;
+
+/** Moves and jumps the player from the PlayerInput of the current tick. */
+public class PlayerControlSystem extends IteratingSystem {
+    private final GravityManager gravity;
+    private int input = PlayerInput.NONE;
+
+    public PlayerControlSystem(GravityManager gravity, int priority) {
+        super(Families.PLAYERS, priority);
+        this.gravity = gravity;
+    }
+
+    /** Sets the controls for the next update from a PlayerInput bitmask. */
+    public void setInput(int input) {
+        this.input = input;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        PlayerComponent player = Mappers.player.get(entity);
+        Body body = Mappers.body.get(entity).body;
+        AppearanceComponent appearance = Mappers.appearance.get(entity);
+
+        player.moveLeft = PlayerInput.left(input);
+        player.moveRight = PlayerInput.right(input);
+        if (PlayerInput.jump(input)) player.jumpRequested = true;
+
+        float move = 0f;
+        boolean jumpPressed = false;
+
+        if (player.moveLeft) {
+            move -= 1f;
+        }
+        if (player.moveRight) {
+            move += 1f;
+        }
+        if (player.jumpRequested) {
+            jumpPressed = true;
+            player.jumpRequested = false; // Reset jump request
+        }
+
+        // Apply horizontal movement
+        Vector2 vel = body.getLinearVelocity();
+        GravityDirection currentGravity = gravity.get();
+
+        // Update animation state
+        appearance.animating = Math.abs(move) > 0.1f;
+        if (move > 0.1f) appearance.flipX = false;
+        if (move < -0.1f) appearance.flipX = true;
+        appearance.stateTime += deltaTime;
+
+        // Movement direction depends on current gravity
+        if (currentGravity == GravityDirection.UP || currentGravity == GravityDirection.DOWN) {
+            body.setLinearVelocity(move * 3f, vel.y);
+        } else {
+            body.setLinearVelocity(vel.x, move * 3f);
+        }
+
+        // Handle jump
+        if (jumpPressed && player.canJump) {
+            jump(body);
+            player.canJump = false;
+        }
+    }
+
+    private void jump(Body body) {
+        float impulseX = 0f;
+        float impulseY = Constants.PLAYER_JUMP_FORCE;
+
+        switch (gravity.get()) {
+            case UP:
+                impulseY = -Constants.PLAYER_JUMP_FORCE;
+                break;
+            case LEFT:
+                impulseX = Constants.PLAYER_JUMP_FORCE;
+                impulseY = 0f;
+                break;
+            case RIGHT:
+                impulseX = -Constants.PLAYER_JUMP_FORCE;
+                impulseY = 0f;
+                break;
+            default:
+                break;
+        }
+
+        Vector2 center = body.getWorldCenter();
+        body.applyLinearImpulse(impulseX, impulseY, center.x, center.y, true);
+    }
+}
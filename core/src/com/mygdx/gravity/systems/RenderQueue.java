@@ -0,0 +1,91 @@
+package com.mygdx.gravity.systems;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.Arrays;
+
+/**
+ * One frame of draw commands. Each command gets a sort key of layer, texture
+ * and tint, so sorting the frame groups sprites that share a texture and
+ * color and the batch flushes and changes color as rarely as possible.
+ * Commands with equal keys keep the order they were added in.
+ */
+public class RenderQueue {
+    // Key bits: layer | texture | packed tint | command index
+    private static final int INDEX_BITS = 20;
+    private static final int TINT_SHIFT = INDEX_BITS;
+    private static final int TEXTURE_SHIFT = TINT_SHIFT + 32;
+    private static final int LAYER_SHIFT = TEXTURE_SHIFT + 8;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+    // Layers stay below the sign bit, so keys are positive and sort by layer first
+    public static final int MAX_LAYERS = 8;
+    public static final int MAX_TEXTURES = 256;
+    public static final int MAX_COMMANDS = 1 << INDEX_BITS;
+
+    private int size = 0;
+    private long[] keys = new long[0];
+    private TextureRegion[] regions = new TextureRegion[0];
+    private float[] x = new float[0];
+    private float[] y = new float[0];
+    private float[] width = new float[0];
+    private float[] height = new float[0];
+    private float[] color = new float[0];
+
+    public void clear() {
+        // Drop region references so the queue doesn't keep textures alive
+        Arrays.fill(regions, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Queues a region drawn at (x, y) with the given size; a negative width
+     * draws it mirrored. Color is packed as in Color.toFloatBits.
+     */
+    public void add(int layer, int texture, TextureRegion region,
+                    float x, float y, float width, float height, float color) {
+        if (size == MAX_COMMANDS) {
+            throw new IllegalStateException("More than " + MAX_COMMANDS + " draw commands in one frame");
+        }
+        ensureCapacity(size + 1);
+        long tint = Float.floatToRawIntBits(color) & 0xffffffffL;
+        keys[size] = ((long) layer << LAYER_SHIFT) | ((long) texture << TEXTURE_SHIFT)
+            | (tint << TINT_SHIFT) | size;
+        regions[size] = region;
+        this.x[size] = x;
+        this.y[size] = y;
+        this.width[size] = width;
+        this.height[size] = height;
+        this.color[size] = color;
+        size++;
+    }
+
+    /** Sorts the commands and draws them, between batch.begin and batch.end. */
+    public void submit(SpriteBatch batch) {
+        Arrays.sort(keys, 0, size);
+        float current = batch.getPackedColor();
+        for (int i = 0; i < size; i++) {
+            int command = (int) (keys[i] & INDEX_MASK);
+            if (color[command] != current) {
+                current = color[command];
+                batch.setPackedColor(current);
+            }
+            batch.draw(regions[command], x[command], y[command], width[command], height[command]);
+        }
+    }
+
+    public int size() { return size; }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= keys.length) return;
+        int grown = Math.max(capacity, Math.max(64, keys.length * 2));
+        keys = Arrays.copyOf(keys, grown);
+        regions = Arrays.copyOf(regions, grown);
+        x = Arrays.copyOf(x, grown);
+        y = Arrays.copyOf(y, grown);
+        width = Arrays.copyOf(width, grown);
+        height = Arrays.copyOf(height, grown);
+        color = Arrays.copyOf(color, grown);
+    }
+}
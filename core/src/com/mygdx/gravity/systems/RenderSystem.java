@@ -0,0 +1,246 @@
+package com.mygdx.gravity.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.mygdx.gravity.components.AppearanceComponent;
+import com.mygdx.gravity.simulation.RenderSnapshot;
+import com.mygdx.gravity.utils.Constants;
+
+/**
+ * Draws every visible entity with its sprite. Reads a RenderSnapshot rather
+ * than the engine, so the simulation may be stepping on another thread
+ * meanwhile; the screen calls render once per frame. Entities whose drawn
+ * box lies outside the camera view are not submitted to the batch.
+ *
+ * The background and fixed entities (platforms, spikes, zones) are built
+ * into a SpriteCache once per level and drawn with renderCached; render
+ * queues the rest as commands sorted by layer, texture and tint (see
+ * RenderQueue). Mirrored sprites are drawn with a negative width, so shared
+ * regions are never flipped in place.
+ */
+public class RenderSystem implements Disposable {
+    private static final int INITIAL_CACHE_SIZE = 256;
+
+    private final SpriteBatch batch;
+    private final TextureRegion[] regions = new TextureRegion[AppearanceComponent.SPRITE_COUNT];
+    private final Object[] animations = new Object[AppearanceComponent.SPRITE_COUNT];
+    private final int[] layers = new int[AppearanceComponent.SPRITE_COUNT];
+    private final int[] textureIds = new int[AppearanceComponent.SPRITE_COUNT];
+    private final Array<Texture> textures = new Array<>();
+    private final RenderQueue queue = new RenderQueue();
+
+    // Camera view in pixels, set by setView
+    private float viewMinX = -Float.MAX_VALUE, viewMinY = -Float.MAX_VALUE;
+    private float viewMaxX = Float.MAX_VALUE, viewMaxY = Float.MAX_VALUE;
+
+    // Entities drawn and culled by the last render
+    private int drawnCount = 0;
+    private int culledCount = 0;
+
+    // Background tile, drawn fixed to the screen
+    private TextureRegion background;
+    private final Matrix4 screenProjection = new Matrix4();
+
+    private SpriteCache cache;
+    private int cacheSize = 0;
+    private int cachedLevel = -1;
+    private int backgroundCache = -1;
+    private int levelCache = -1;
+
+    public RenderSystem(SpriteBatch batch) {
+        this.batch = batch;
+    }
+
+    /** Idle frame and optional animation of a sprite id (see AppearanceComponent). */
+    public void setSprite(int sprite, TextureRegion region, Animation<TextureRegion> animation) {
+        regions[sprite] = region;
+        animations[sprite] = animation;
+        if (region == null) return;
+        int id = textures.indexOf(region.getTexture(), true);
+        if (id < 0) {
+            id = textures.size;
+            if (id == RenderQueue.MAX_TEXTURES) {
+                throw new IllegalStateException("More than " + RenderQueue.MAX_TEXTURES + " sprite textures");
+            }
+            textures.add(region.getTexture());
+        }
+        textureIds[sprite] = id;
+    }
+
+    /** Forgets all sprites and their textures, e.g. before switching to another level's. */
+    public void clearSprites() {
+        for (int i = 0; i < regions.length; i++) {
+            regions[i] = null;
+            animations[i] = null;
+            textureIds[i] = 0;
+        }
+        textures.clear();
+        background = null;
+        cachedLevel = -1;
+    }
+
+    /** Sprites on higher layers are drawn over lower ones (0 by default). */
+    public void setLayer(int sprite, int layer) {
+        if (layer < 0 || layer >= RenderQueue.MAX_LAYERS) {
+            throw new IllegalArgumentException("Layer out of range: " + layer);
+        }
+        layers[sprite] = layer;
+    }
+
+    /** Tile repeated over the whole screen behind the level. */
+    public void setBackground(TextureRegion background) {
+        this.background = background;
+        cachedLevel = -1;
+    }
+
+    /** Culls against what the camera sees (call after camera.update). */
+    public void setView(OrthographicCamera camera) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+        viewMinX = camera.position.x - halfWidth;
+        viewMinY = camera.position.y - halfHeight;
+        viewMaxX = camera.position.x + halfWidth;
+        viewMaxY = camera.position.y + halfHeight;
+        screenProjection.setToOrtho2D(0, 0, camera.viewportWidth, camera.viewportHeight);
+    }
+
+    /**
+     * Draws the background and the fixed entities of the snapshot's level,
+     * rebuilding the cache if the level changed. Call outside batch.begin/end,
+     * before render.
+     */
+    public void renderCached(RenderSnapshot snapshot, OrthographicCamera camera) {
+        if (snapshot.getLevel() != cachedLevel) {
+            buildCache(snapshot, camera);
+        }
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.begin();
+        if (backgroundCache >= 0) {
+            cache.setProjectionMatrix(screenProjection);
+            cache.draw(backgroundCache);
+        }
+        cache.setProjectionMatrix(camera.combined);
+        cache.draw(levelCache);
+        cache.end();
+    }
+
+    private void buildCache(RenderSnapshot snapshot, OrthographicCamera camera) {
+        int tilesX = 0;
+        int tilesY = 0;
+        if (background != null) {
+            tilesX = (int) Math.ceil(camera.viewportWidth / background.getRegionWidth());
+            tilesY = (int) Math.ceil(camera.viewportHeight / background.getRegionHeight());
+        }
+        int needed = tilesX * tilesY;
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (snapshot.isFixed(i)) needed++;
+        }
+        if (cache == null || needed > cacheSize) {
+            if (cache != null) cache.dispose();
+            cacheSize = Math.max(INITIAL_CACHE_SIZE, needed * 2);
+            cache = new SpriteCache(cacheSize, false);
+        }
+        cache.clear();
+
+        backgroundCache = -1;
+        if (background != null) {
+            cache.beginCache();
+            cache.setColor(Color.WHITE);
+            float tileWidth = background.getRegionWidth();
+            float tileHeight = background.getRegionHeight();
+            for (int x = 0; x < tilesX; x++) {
+                for (int y = 0; y < tilesY; y++) {
+                    cache.add(background, x * tileWidth, y * tileHeight, tileWidth, tileHeight);
+                }
+            }
+            backgroundCache = cache.endCache();
+        }
+
+        cache.beginCache();
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (!snapshot.isFixed(i) || !snapshot.isVisible(i)) continue;
+            TextureRegion region = regions[snapshot.getSprite(i)];
+            if (region == null) continue;
+
+            float x = snapshot.getInterpolatedX(i, 1f) * Constants.PPM;
+            float y = snapshot.getInterpolatedY(i, 1f) * Constants.PPM;
+            float width = snapshot.getWidth(i) * Constants.PPM;
+            float height = snapshot.getHeight(i) * Constants.PPM;
+            cache.setColor(snapshot.getR(i), snapshot.getG(i), snapshot.getB(i), snapshot.getA(i));
+            if (snapshot.isFlipX(i)) {
+                cache.add(region, x + width / 2, y - height / 2, -width, height);
+            } else {
+                cache.add(region, x - width / 2, y - height / 2, width, height);
+            }
+        }
+        levelCache = cache.endCache();
+        cachedLevel = snapshot.getLevel();
+    }
+
+    /**
+     * Draws the entities that aren't cached, between batch.begin and
+     * batch.end, interpolated by alpha between the last two steps.
+     */
+    @SuppressWarnings("unchecked")
+    public void render(RenderSnapshot snapshot, float alpha) {
+        int culled = 0;
+        queue.clear();
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (!snapshot.isVisible(i) || snapshot.isFixed(i)) continue;
+
+            float x = snapshot.getInterpolatedX(i, alpha) * Constants.PPM;
+            float y = snapshot.getInterpolatedY(i, alpha) * Constants.PPM;
+            float width = snapshot.getWidth(i) * Constants.PPM;
+            float height = snapshot.getHeight(i) * Constants.PPM;
+            if (x + width / 2 < viewMinX || x - width / 2 > viewMaxX
+                || y + height / 2 < viewMinY || y - height / 2 > viewMaxY) {
+                culled++;
+                continue;
+            }
+
+            int sprite = snapshot.getSprite(i);
+            TextureRegion region = regions[sprite];
+            Animation<TextureRegion> animation = (Animation<TextureRegion>) animations[sprite];
+            if (snapshot.isAnimating(i) && animation != null) {
+                region = animation.getKeyFrame(snapshot.getStateTime(i), true);
+            }
+            if (region == null) continue;
+
+            float color = Color.toFloatBits(snapshot.getR(i), snapshot.getG(i), snapshot.getB(i), snapshot.getA(i));
+            if (snapshot.isFlipX(i)) {
+                queue.add(layers[sprite], textureIds[sprite], region,
+                    x + width / 2, y - height / 2, -width, height, color);
+            } else {
+                queue.add(layers[sprite], textureIds[sprite], region,
+                    x - width / 2, y - height / 2, width, height, color);
+            }
+        }
+        queue.submit(batch);
+        batch.setColor(Color.WHITE);
+        drawnCount = queue.size();
+        culledCount = culled;
+        queue.clear();
+    }
+
+    public int getDrawnCount() { return drawnCount; }
+    public int getCulledCount() { return culledCount; }
+
+    @Override
+    public void dispose() {
+        if (cache != null) {
+            cache.dispose();
+            cache = null;
+        }
+    }
+}
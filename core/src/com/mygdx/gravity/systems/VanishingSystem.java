@@ -0,0 +1,31 @@
+package com.mygdx.gravity.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.mygdx.gravity.components.BodyComponent;
+import com.mygdx.gravity.components.Families;
+import com.mygdx.gravity.components.Mappers;
+import com.mygdx.gravity.components.VanishingComponent;
+
+/** Counts down activated vanishing platforms and switches them off when time runs out. */
+public class VanishingSystem extends IteratingSystem {
+
+    public VanishingSystem(int priority) {
+        super(Families.VANISHING, priority);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        BodyComponent body = Mappers.body.get(entity);
+        VanishingComponent vanishing = Mappers.vanishing.get(entity);
+        if (body.dormant || !vanishing.activated) return;
+
+        vanishing.lifeTime -= deltaTime;
+        if (vanishing.lifeTime <= 0 && body.enabled) {
+            body.setEnabled(false);
+        }
+
+        // Make it fade out when activated
+        Mappers.appearance.get(entity).a = Math.max(0.3f, vanishing.lifeTime / VanishingComponent.LIFE_TIME);
+    }
+}
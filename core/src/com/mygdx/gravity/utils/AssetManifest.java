@@ -0,0 +1,113 @@
+package com.mygdx.gravity.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * AssetManifest - what the build found in assets/ (gradlew assetManifest):
+ * size, format, image dimensions and CRC32 of every file, one tab-separated
+ * line each. Startup checks formats here, or by sniffing the first bytes of
+ * a file, instead of decoding images it is about to load anyway.
+ */
+public class AssetManifest {
+    public static final String PATH = "assets.manifest";
+
+    public static final String PNG = "png";
+    public static final String JPEG = "jpeg";
+    public static final String WEBP = "webp";
+
+    private static final int HEADER_BYTES = 12;
+
+    /** One file of the manifest. Width and height are 0 for non-images. */
+    public static class Entry {
+        public final String name;
+        public final long size;
+        public final String format;
+        public final int width;
+        public final int height;
+        public final long crc32;
+
+        Entry(String name, long size, String format, int width, int height, long crc32) {
+            this.name = name;
+            this.size = size;
+            this.format = format;
+            this.width = width;
+            this.height = height;
+            this.crc32 = crc32;
+        }
+    }
+
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+
+    /** Reads the manifest, or returns null if the build didn't write one. */
+    public static AssetManifest load(FileHandle file) {
+        if (!file.exists()) return null;
+        AssetManifest manifest = new AssetManifest();
+        String[] lines = file.readString("UTF-8").split("\n");
+        for (String line : lines) {
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] fields = line.split("\t");
+            if (fields.length != 6) {
+                throw new GdxRuntimeException("Malformed line in " + file.path() + ": " + line);
+            }
+            Entry entry = new Entry(fields[0], Long.parseLong(fields[1]), fields[2],
+                Integer.parseInt(fields[3]), Integer.parseInt(fields[4]), Long.parseLong(fields[5], 16));
+            manifest.entries.put(entry.name, entry);
+        }
+        return manifest;
+    }
+
+    /** The entry for a path relative to assets/, or null if it isn't listed. */
+    public Entry get(String name) {
+        return entries.get(name);
+    }
+
+    public int size() {
+        return entries.size;
+    }
+
+    /**
+     * Format of a file by its first bytes: PNG, JPEG, WEBP, or null if it is
+     * none of them or can't be read.
+     */
+    public static String sniffFormat(FileHandle file) {
+        byte[] header = new byte[HEADER_BYTES];
+        InputStream input = null;
+        try {
+            input = file.read();
+            int read = 0;
+            while (read < header.length) {
+                int count = input.read(header, read, header.length - read);
+                if (count < 0) break;
+                read += count;
+            }
+            return formatOf(header, read);
+        } catch (GdxRuntimeException | IOException e) {
+            Gdx.app.error("AssetManifest", "Could not read " + file.path(), e);
+            return null;
+        } finally {
+            StreamUtils.closeQuietly(input);
+        }
+    }
+
+    private static String formatOf(byte[] header, int length) {
+        if (length >= 8 && (header[0] & 0xff) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G'
+            && header[4] == '\r' && header[5] == '\n' && header[6] == 0x1a && header[7] == '\n') {
+            return PNG;
+        }
+        if (length >= 3 && (header[0] & 0xff) == 0xff && (header[1] & 0xff) == 0xd8 && (header[2] & 0xff) == 0xff) {
+            return JPEG;
+        }
+        if (length >= 12 && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+            && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return WEBP;
+        }
+        return null;
+    }
+}
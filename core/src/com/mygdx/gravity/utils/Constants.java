@@ -8,9 +8,25 @@ public final class Constants {
     public static final float PLAYER_JUMP_FORCE = 7.0f;
     public static final float TIME_SLOW_SCALE = 0.5f;
 
+    // Fixed simulation step (60 Hz) and the cap on steps per rendered frame
+    public static final float PHYSICS_TIME_STEP = 1f / 60f;
+    public static final int PHYSICS_MAX_SUBSTEPS = 5;
+    public static final int VELOCITY_ITERATIONS = 6;
+    public static final int POSITION_ITERATIONS = 2;
+    // Step the simulation on its own thread when there is a spare core (see SimulationLoop)
+    public static final boolean SIMULATION_THREAD = true;
+    // Input changes a replay recording has room for up front (about an hour of play)
+    public static final int RECORDING_SEGMENTS = 60 * 60 * 15;
+
+    // Bodies further than this (meters) outside the camera view are switched off
+    public static final float ACTIVATION_MARGIN = 4f;
+    public static final float ACTIVATION_CELL_SIZE = 4f;
+
     public static final float PPM = 100f; // pixels per meter
     public static final int V_WIDTH = 800;
     public static final int V_HEIGHT = 480;
+    // Render the world at a lower resolution when frames run long (see ResolutionScaler)
+    public static final boolean DYNAMIC_RESOLUTION = true;
 
     public static final short CATEGORY_PLAYER = 0x0001;
     public static final short CATEGORY_ENV = 0x0002;
@@ -0,0 +1,73 @@
+package com.mygdx.gravity.utils;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * LevelAssets - the files one level draws with, held through the
+ * AssetManager's reference counts. Every load takes a reference and every
+ * unload gives one back, so a texture is only freed once no level (and not
+ * the game itself) holds it any more. Switching levels queues the new
+ * level's files first and releases the old ones after, so files both
+ * levels use stay loaded.
+ */
+public class LevelAssets implements Disposable {
+    private final AssetManager assets;
+    // Files of the level being played, and of the level about to be
+    private final Array<String> held = new Array<>();
+    private final Array<String> pending = new Array<>();
+
+    public LevelAssets(AssetManager assets) {
+        this.assets = assets;
+    }
+
+    /**
+     * Queues the files of the next level, taking a reference to each.
+     * Returns them, e.g. for a LoadingScreen to wait on.
+     */
+    public Array<String> load(Array<String> files) {
+        releaseAll(pending);
+        for (int i = 0; i < files.size; i++) {
+            String file = files.get(i);
+            if (file.endsWith(".atlas")) {
+                assets.load(file, TextureAtlas.class);
+            } else {
+                assets.load(file, Texture.class);
+            }
+            pending.add(file);
+        }
+        return new Array<>(pending);
+    }
+
+    /**
+     * Blocks until the queued level's files are loaded, then releases the
+     * previous level's. Keeps the current files if nothing was queued.
+     */
+    public void finishLoading() {
+        if (pending.size == 0) return;
+        for (int i = 0; i < pending.size; i++) {
+            assets.finishLoadingAsset(pending.get(i));
+        }
+        releaseAll(held);
+        held.addAll(pending);
+        pending.clear();
+    }
+
+    private void releaseAll(Array<String> files) {
+        for (int i = 0; i < files.size; i++) {
+            if (assets.contains(files.get(i))) {
+                assets.unload(files.get(i));
+            }
+        }
+        files.clear();
+    }
+
+    @Override
+    public void dispose() {
+        releaseAll(pending);
+        releaseAll(held);
+    }
+}
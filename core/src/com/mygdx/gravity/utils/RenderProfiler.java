@@ -0,0 +1,157 @@
+package com.mygdx.gravity.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RenderProfiler - per-frame rendering counters: batch render calls and
+ * largest batch, GL draw calls, texture binds and shader switches (via
+ * GLProfiler), entities drawn and culled, and frame time. While enabled the
+ * counters are drawn over the screen and appended to profile/render.csv in
+ * local storage, one row per frame, tagged with the screen that rendered it.
+ */
+public class RenderProfiler implements Disposable {
+    private static final String LOG_PATH = "profile/render.csv";
+    private static final String HEADER =
+        "frame,screen,frame_ms,render_ms,batch_calls,max_sprites,gl_calls,draw_calls,texture_binds,shader_switches,drawn,culled\n";
+
+    private final SpriteBatch batch;
+    private final BitmapFont font;
+    private final GLProfiler gl;
+    private final Matrix4 projection = new Matrix4();
+    private final StringBuilder text = new StringBuilder();
+
+    private boolean enabled = false;
+    private Writer log;
+    private long frame = 0;
+
+    // Current frame
+    private String screen = "";
+    private long startNanos;
+    private int startRenderCalls;
+    private int drawn = 0;
+    private int culled = 0;
+
+    public RenderProfiler(SpriteBatch batch, BitmapFont font) {
+        this.batch = batch;
+        this.font = font;
+        this.gl = new GLProfiler(Gdx.graphics);
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) return;
+        this.enabled = enabled;
+        if (enabled) {
+            gl.enable();
+            openLog();
+        } else {
+            gl.disable();
+            closeLog();
+        }
+    }
+
+    /** Starts a frame rendered by the given screen. */
+    public void begin(Screen screen) {
+        if (!enabled) return;
+        this.screen = screen != null ? screen.getClass().getSimpleName() : "none";
+        drawn = 0;
+        culled = 0;
+        gl.reset();
+        batch.maxSpritesInBatch = 0;
+        startRenderCalls = batch.totalRenderCalls;
+        startNanos = TimeUtils.nanoTime();
+    }
+
+    /** Entities the screen submitted to the batch and culled this frame. */
+    public void setEntityCounts(int drawn, int culled) {
+        this.drawn = drawn;
+        this.culled = culled;
+    }
+
+    /** Ends the frame: logs it and draws the overlay (which isn't counted). */
+    public void end() {
+        if (!enabled) return;
+        float renderMs = (TimeUtils.nanoTime() - startNanos) / 1000000f;
+        float frameMs = Gdx.graphics.getDeltaTime() * 1000f;
+        int batchCalls = batch.totalRenderCalls - startRenderCalls;
+        int maxSprites = batch.maxSpritesInBatch;
+        int glCalls = gl.getCalls();
+        int drawCalls = gl.getDrawCalls();
+        int textureBinds = gl.getTextureBindings();
+        int shaderSwitches = gl.getShaderSwitches();
+        frame++;
+
+        if (log != null) {
+            text.setLength(0);
+            text.append(frame).append(',').append(screen).append(',')
+                .append(frameMs).append(',').append(renderMs).append(',')
+                .append(batchCalls).append(',').append(maxSprites).append(',')
+                .append(glCalls).append(',').append(drawCalls).append(',')
+                .append(textureBinds).append(',').append(shaderSwitches).append(',')
+                .append(drawn).append(',').append(culled).append('\n');
+            try {
+                log.append(text);
+            } catch (IOException e) {
+                Gdx.app.error("RenderProfiler", "Could not write " + LOG_PATH, e);
+                closeLog();
+            }
+        }
+
+        text.setLength(0);
+        text.append(screen).append('\n')
+            .append("frame ").append(Math.round(frameMs * 10f) / 10f).append(" ms, render ")
+            .append(Math.round(renderMs * 10f) / 10f).append(" ms\n")
+            .append("batch calls ").append(batchCalls).append(", max sprites ").append(maxSprites).append('\n')
+            .append("draw calls ").append(drawCalls).append(", gl calls ").append(glCalls).append('\n')
+            .append("texture binds ").append(textureBinds).append(", shader switches ").append(shaderSwitches).append('\n')
+            .append("entities drawn ").append(drawn).append(", culled ").append(culled);
+        projection.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        font.setColor(0.4f, 1f, 0.4f, 1f);
+        font.draw(batch, text, 8, Gdx.graphics.getHeight() - 8);
+        font.setColor(1f, 1f, 1f, 1f);
+        batch.end();
+    }
+
+    private void openLog() {
+        if (!Gdx.files.isLocalStorageAvailable()) return;
+        FileHandle file = Gdx.files.local(LOG_PATH);
+        try {
+            log = new BufferedWriter(file.writer(false, "UTF-8"));
+            log.write(HEADER);
+        } catch (GdxRuntimeException | IOException e) {
+            Gdx.app.error("RenderProfiler", "Could not open " + file.path(), e);
+            log = null;
+        }
+    }
+
+    private void closeLog() {
+        if (log == null) return;
+        try {
+            log.close();
+        } catch (IOException e) {
+            Gdx.app.error("RenderProfiler", "Could not close " + LOG_PATH, e);
+        }
+        log = null;
+    }
+
+    @Override
+    public void dispose() {
+        setEnabled(false);
+    }
+}
@@ -0,0 +1,55 @@
+package com.mygdx.gravity.utils;
+
+/**
+ * ResolutionScaler - picks the resolution scale the world is rendered at
+ * from the frame time. The scale drops a step as soon as the average frame
+ * runs over budget, and only comes back a step after a longer stretch of
+ * frames within budget, so it doesn't flip back and forth.
+ */
+public class ResolutionScaler {
+    public static final float MIN_SCALE = 0.5f;
+    private static final float STEP = 0.1f;
+    private static final int MAX_LEVEL = Math.round((1f - MIN_SCALE) / STEP);
+
+    // One frame at 60 fps, and the margins around it that count as too slow or fast enough
+    private static final float BUDGET = Constants.PHYSICS_TIME_STEP;
+    private static final float SLOW = BUDGET * 1.15f;
+    private static final float FAST = BUDGET * 1.05f;
+    // Frames longer than this are hitches (loading, app switch), not load
+    private static final float HITCH = 0.25f;
+    private static final float SMOOTHING = 0.1f;
+    // Frames to wait after a change before going down or up again
+    private static final int SETTLE_DOWN = 30;
+    private static final int SETTLE_UP = 300;
+
+    private int level = 0;
+    private float average = BUDGET;
+    private int framesSinceChange = 0;
+
+    /** Feeds the last frame's time in seconds and returns the scale to render at. */
+    public float update(float delta) {
+        if (delta > HITCH) return getScale();
+        average += (delta - average) * SMOOTHING;
+        framesSinceChange++;
+
+        if (average > SLOW && level < MAX_LEVEL && framesSinceChange >= SETTLE_DOWN) {
+            level++;
+            framesSinceChange = 0;
+        } else if (average < FAST && level > 0 && framesSinceChange >= SETTLE_UP) {
+            level--;
+            framesSinceChange = 0;
+        }
+        return getScale();
+    }
+
+    /** Width and height factor of the world's render target, from MIN_SCALE to 1. */
+    public float getScale() {
+        return 1f - level * STEP;
+    }
+
+    public void reset() {
+        level = 0;
+        average = BUDGET;
+        framesSinceChange = 0;
+    }
+}
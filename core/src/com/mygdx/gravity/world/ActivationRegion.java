@@ -0,0 +1,197 @@
+package com.mygdx.gravity.world;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.utils.Array;
+import com.mygdx.gravity.components.BodyComponent;
+import com.mygdx.gravity.components.Mappers;
+import com.mygdx.gravity.utils.Constants;
+
+/**
+ * ActivationRegion - keeps only the bodies near the camera active.
+ * Entities with an ActivatableComponent are bucketed into a uniform grid; when the window around
+ * the focus point moves to a different set of cells, entities in cells that
+ * left the window go dormant and those in cells that entered it wake up.
+ * Frames where the window stays within the same cells cost nothing.
+ */
+public class ActivationRegion {
+    private static final float HALF_WIDTH = Constants.V_WIDTH / 2f / Constants.PPM + Constants.ACTIVATION_MARGIN;
+    private static final float HALF_HEIGHT = Constants.V_HEIGHT / 2f / Constants.PPM + Constants.ACTIVATION_MARGIN;
+
+    private final float cellSize = Constants.ACTIVATION_CELL_SIZE;
+    private final Array<Array<BodyComponent>> cells = new Array<>();
+    private final Array<BodyComponent> moved = new Array<>();
+    private float originX;
+    private float originY;
+    private int cols;
+    private int rows;
+
+    // Current window in cells (inclusive); valid once initialized
+    private boolean initialized = false;
+    private int col0, col1, row0, row1;
+
+    /**
+     * Buckets the entities that take part in activation (Families.ACTIVATABLE;
+     * the player and always-on level geometry are left out).
+     */
+    public void build(ImmutableArray<Entity> entities) {
+        cells.clear();
+        initialized = false;
+
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < entities.size(); i++) {
+            BodyComponent e = Mappers.body.get(entities.get(i));
+            float x = e.body.getPosition().x;
+            float y = e.body.getPosition().y;
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+        }
+        if (minX > maxX) {
+            cols = 0;
+            rows = 0;
+            return;
+        }
+
+        originX = minX;
+        originY = minY;
+        cols = (int) ((maxX - minX) / cellSize) + 1;
+        rows = (int) ((maxY - minY) / cellSize) + 1;
+        for (int i = 0; i < cols * rows; i++) {
+            cells.add(new Array<BodyComponent>(false, 8));
+        }
+        for (int i = 0; i < entities.size(); i++) {
+            BodyComponent e = Mappers.body.get(entities.get(i));
+            cellOf(e).add(e);
+        }
+    }
+
+    /**
+     * Moves the window to the given focus point (meters), switching bodies on
+     * and off at cell granularity.
+     */
+    public void update(float focusX, float focusY) {
+        if (cols == 0) return;
+
+        int c0 = col(focusX - HALF_WIDTH);
+        int c1 = col(focusX + HALF_WIDTH);
+        int r0 = row(focusY - HALF_HEIGHT);
+        int r1 = row(focusY + HALF_HEIGHT);
+
+        if (!initialized) {
+            setWindow(c0, c1, r0, r1);
+            initialized = true;
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    setDormant(c, r, !inWindow(c, r));
+                }
+            }
+            return;
+        }
+        if (c0 == col0 && c1 == col1 && r0 == row0 && r1 == row1) return;
+
+        int oldC0 = col0, oldC1 = col1, oldR0 = row0, oldR1 = row1;
+        setWindow(c0, c1, r0, r1);
+
+        // Awake dynamic bodies may have been pushed into other cells
+        rebinMovedEntities(oldC0, oldC1, oldR0, oldR1);
+
+        // Cells that left the window go to sleep
+        for (int r = oldR0; r <= oldR1; r++) {
+            for (int c = oldC0; c <= oldC1; c++) {
+                if (!inWindow(c, r)) setDormant(c, r, true);
+            }
+        }
+        // Cells that entered the window wake up
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                if (c < oldC0 || c > oldC1 || r < oldR0 || r > oldR1) setDormant(c, r, false);
+            }
+        }
+    }
+
+    /** Wakes every managed entity and forgets the window (e.g. before a teleport restore). */
+    public void wakeAll() {
+        for (int i = 0; i < cells.size; i++) {
+            Array<BodyComponent> cell = cells.get(i);
+            for (int j = 0; j < cell.size; j++) {
+                cell.get(j).setDormant(false);
+            }
+        }
+        initialized = false;
+    }
+
+    /**
+     * Wakes everything and re-buckets the entities at their current positions,
+     * reusing the grid from build (e.g. after a snapshot restore moved them).
+     */
+    public void reset(ImmutableArray<Entity> entities) {
+        wakeAll();
+        for (int i = 0; i < cells.size; i++) {
+            cells.get(i).clear();
+        }
+        if (cols == 0) return;
+        for (int i = 0; i < entities.size(); i++) {
+            BodyComponent e = Mappers.body.get(entities.get(i));
+            cellOf(e).add(e);
+        }
+    }
+
+    private void rebinMovedEntities(int oldC0, int oldC1, int oldR0, int oldR1) {
+        moved.clear();
+        for (int r = oldR0; r <= oldR1; r++) {
+            for (int c = oldC0; c <= oldC1; c++) {
+                Array<BodyComponent> cell = cells.get(r * cols + c);
+                for (int j = cell.size - 1; j >= 0; j--) {
+                    BodyComponent e = cell.get(j);
+                    if (e.body.getType() == BodyDef.BodyType.StaticBody) continue;
+                    if (cellOf(e) != cell) {
+                        cell.removeIndex(j);
+                        moved.add(e);
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < moved.size; i++) {
+            BodyComponent e = moved.get(i);
+            cellOf(e).add(e);
+            e.setDormant(!inWindow(col(e.body.getPosition().x), row(e.body.getPosition().y)));
+        }
+        moved.clear();
+    }
+
+    private void setDormant(int c, int r, boolean dormant) {
+        Array<BodyComponent> cell = cells.get(r * cols + c);
+        for (int j = 0; j < cell.size; j++) {
+            cell.get(j).setDormant(dormant);
+        }
+    }
+
+    private void setWindow(int c0, int c1, int r0, int r1) {
+        col0 = c0;
+        col1 = c1;
+        row0 = r0;
+        row1 = r1;
+    }
+
+    private boolean inWindow(int c, int r) {
+        return c >= col0 && c <= col1 && r >= row0 && r <= row1;
+    }
+
+    private Array<BodyComponent> cellOf(BodyComponent e) {
+        return cells.get(row(e.body.getPosition().y) * cols + col(e.body.getPosition().x));
+    }
+
+    private int col(float x) {
+        int c = (int) Math.floor((x - originX) / cellSize);
+        return Math.max(0, Math.min(cols - 1, c));
+    }
+
+    private int row(float y) {
+        int r = (int) Math.floor((y - originY) / cellSize);
+        return Math.max(0, Math.min(rows - 1, r));
+    }
+}
@@ -1,27 +1,134 @@
 package com.mygdx.gravity.world;
 
+import com.badlogic.ashley.core.Entity;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
-import com.mygdx.gravity.entities.*;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.mygdx.gravity.components.*;
 import com.mygdx.gravity.mechanics.GravityManager;
 import com.mygdx.gravity.mechanics.TimeManager;
-import com.mygdx.gravity.screens.GameScreen;
-
+import com.mygdx.gravity.simulation.GameSimulation;
+
+/**
+ * Reacts to player contacts. The Box2D callbacks only queue the event;
+ * processContacts runs the handlers in one batch after the step, where
+ * bodies can be changed freely. Handlers are registered per pair of contact
+ * types (see ContactDispatcher); pairs without a handler, like boxes on
+ * platforms, cost a single table lookup.
+ */
 public class CollisionHandler implements ContactListener {
 
+    private static final int EVENT_CAPACITY = 256;
+
     private final GravityManager gravity;
     private final TimeManager time;
-    private GameScreen gameScreen;
+    private GameSimulation simulation;
+    private final ContactDispatcher begin = new ContactDispatcher();
+    private final ContactDispatcher end = new ContactDispatcher();
+    private final ContactEventQueue events = new ContactEventQueue(EVENT_CAPACITY);
+
+    // Contact processing stats
+    private int lastEventCount = 0;
+    private long lastProcessNanos = 0;
+    private long totalEventCount = 0;
 
     public CollisionHandler(GravityManager gravity, TimeManager time) {
         this.gravity = gravity;
         this.time = time;
+        registerHandlers();
     }
 
-    public CollisionHandler(GravityManager gravity, TimeManager time, GameScreen gameScreen) {
-        this.gravity = gravity;
-        this.time = time;
-        this.gameScreen = gameScreen;
+    public CollisionHandler(GravityManager gravity, TimeManager time, GameSimulation simulation) {
+        this(gravity, time);
+        this.simulation = simulation;
+    }
+
+    private void registerHandlers() {
+        ContactDispatcher.Handler land = new ContactDispatcher.Handler() {
+            @Override
+            public void handle(Entity player, Entity platform) {
+                Mappers.player.get(player).canJump = true;
+            }
+        };
+        begin.register(ContactType.PLAYER, ContactType.PLATFORM, land);
+        begin.register(ContactType.PLAYER, ContactType.VANISHING_PLATFORM, new ContactDispatcher.Handler() {
+            @Override
+            public void handle(Entity player, Entity platform) {
+                Mappers.player.get(player).canJump = true;
+                Mappers.vanishing.get(platform).activate();
+            }
+        });
+        begin.register(ContactType.PLAYER, ContactType.IMPULSE_PLATFORM, new ContactDispatcher.Handler() {
+            @Override
+            public void handle(Entity player, Entity platform) {
+                Mappers.player.get(player).canJump = true;
+                Body body = Mappers.body.get(player).body;
+                body.applyLinearImpulse(Mappers.impulse.get(platform).impulse, body.getWorldCenter(), true);
+            }
+        });
+
+        // Trigger respawn when player hits spike
+        begin.register(ContactType.PLAYER, ContactType.SPIKE, new ContactDispatcher.Handler() {
+            @Override
+            public void handle(Entity player, Entity spike) {
+                respawn();
+            }
+        });
+
+        // Enemy body collision - return player to start of level
+        // Note: Head sensor collisions have their own handler (stomp)
+        begin.register(ContactType.PLAYER, ContactType.ENEMY, new ContactDispatcher.Handler() {
+            @Override
+            public void handle(Entity player, Entity enemy) {
+                if (!Mappers.killable.get(enemy).dead && Mappers.body.get(enemy).body.isActive()) {
+                    respawn();
+                }
+            }
+        });
+        begin.register(ContactType.PLAYER, ContactType.ENEMY_HEAD, new ContactDispatcher.Handler() {
+            @Override
+            public void handle(Entity player, Entity enemy) {
+                handleEnemyStomp(player, enemy);
+            }
+        });
+
+        begin.register(ContactType.PLAYER, ContactType.GRAVITY_ZONE, new ContactDispatcher.Handler() {
+            @Override
+            public void handle(Entity player, Entity zone) {
+                gravity.set(Mappers.gravityZone.get(zone).direction);
+            }
+        });
+        begin.register(ContactType.PLAYER, ContactType.TIME_SLOW_ZONE, new ContactDispatcher.Handler() {
+            @Override
+            public void handle(Entity player, Entity zone) {
+                time.setSlow(true);
+            }
+        });
+        begin.register(ContactType.PLAYER, ContactType.FINISH, new ContactDispatcher.Handler() {
+            @Override
+            public void handle(Entity player, Entity finish) {
+                // Level complete - go to next level or show victory screen
+                if (simulation != null) {
+                    simulation.queueLevelComplete();
+                }
+            }
+        });
+
+        ContactDispatcher.Handler leave = new ContactDispatcher.Handler() {
+            @Override
+            public void handle(Entity player, Entity platform) {
+                Mappers.player.get(player).canJump = false;
+            }
+        };
+        end.register(ContactType.PLAYER, ContactType.PLATFORM, leave);
+        end.register(ContactType.PLAYER, ContactType.VANISHING_PLATFORM, leave);
+        end.register(ContactType.PLAYER, ContactType.IMPULSE_PLATFORM, leave);
+        end.register(ContactType.PLAYER, ContactType.TIME_SLOW_ZONE, new ContactDispatcher.Handler() {
+            @Override
+            public void handle(Entity player, Entity zone) {
+                time.setSlow(false);
+            }
+        });
     }
 
     @Override
@@ -37,47 +144,71 @@ public class CollisionHandler implements ContactListener {
             return;
         }
 
-        Object ua = a.getUserData();
-        Object ub = b.getUserData();
+        FixtureData ua = (FixtureData) a.getUserData();
+        FixtureData ub = (FixtureData) b.getUserData();
         
         if (ua == null || ub == null) {
             return;
         }
 
-        // Check for enemy head sensor collision first (before body collision)
-        // This prevents body collision from triggering when player stomps enemy
-        if (ua instanceof Player && ub instanceof Enemy.EnemyTopSensor) {
-            handleEnemyStomp((Player) ua, (Enemy.EnemyTopSensor) ub);
-            return; // Don't process other collisions for this contact
-        }
-        if (ub instanceof Player && ua instanceof Enemy.EnemyTopSensor) {
-            handleEnemyStomp((Player) ub, (Enemy.EnemyTopSensor) ua);
-            return; // Don't process other collisions for this contact
+        events.push(ContactEventQueue.BEGIN, ua, ub);
+    }
+
+    /**
+     * Runs the handlers of every queued event, oldest first. Events raised
+     * while processing (e.g. a body switched off ends its contacts) are
+     * processed in the same batch.
+     */
+    public void processContacts() {
+        long start = TimeUtils.nanoTime();
+        int count = 0;
+        while (!events.isEmpty()) {
+            ContactDispatcher dispatcher = events.kind() == ContactEventQueue.BEGIN ? begin : end;
+            FixtureData a = events.first();
+            FixtureData b = events.second();
+            events.pop();
+            dispatcher.dispatch(a, b);
+            count++;
         }
+        lastEventCount = count;
+        totalEventCount += count;
+        lastProcessNanos = TimeUtils.nanoTime() - start;
+    }
 
-        handleBegin(ua, ub);
-        handleBegin(ub, ua);
+    /** Drops queued events, e.g. the ones raised while a snapshot was restored. */
+    public void clearContacts() {
+        events.clear();
     }
-    
-    private void handleEnemyStomp(Player player, Enemy.EnemyTopSensor sensor) {
-        if (player == null || sensor == null || sensor.enemy == null) {
-            return;
+
+    public ContactEventQueue getEvents() { return events; }
+    public int getLastEventCount() { return lastEventCount; }
+    public long getLastProcessNanos() { return lastProcessNanos; }
+    public long getTotalEventCount() { return totalEventCount; }
+
+    private void respawn() {
+        if (simulation != null) {
+            simulation.triggerRespawn();
         }
-        
-        Enemy enemy = sensor.enemy;
-        // Check if enemy is dead, pending kill, or body is inactive
-        if (enemy.isDead() || enemy.getBody() == null || !enemy.getBody().isActive()) {
+    }
+    
+    private void handleEnemyStomp(Entity player, Entity enemy) {
+        KillableComponent killable = Mappers.killable.get(enemy);
+        Body enemyBody = Mappers.body.get(enemy).body;
+        Body playerBody = Mappers.body.get(player).body;
+
+        // Check if enemy is dead or body is inactive
+        if (killable.dead || !enemyBody.isActive()) {
             return;
         }
         
-        if (player.getBody() == null || !player.getBody().isActive()) {
+        if (!playerBody.isActive()) {
             return;
         }
         
         // Check if player is falling onto enemy head (stomp)
-        Vector2 playerVel = player.getBody().getLinearVelocity();
-        Vector2 playerPos = player.getBody().getPosition();
-        Vector2 enemyPos = enemy.getBody().getPosition();
+        Vector2 playerVel = playerBody.getLinearVelocity();
+        Vector2 playerPos = playerBody.getPosition();
+        Vector2 enemyPos = enemyBody.getPosition();
         
         // Player must be above enemy and falling (or moving downward)
         boolean isAbove = playerPos.y > enemyPos.y;
@@ -85,87 +216,26 @@ public class CollisionHandler implements ContactListener {
         boolean isFalling = playerVel.y < 0.3f;
         
         if (isAbove && isFalling) {
-            // Stomp! Kill enemy (mark for death, will be processed after physics step)
-            enemy.kill();
+            // Stomp! Kill enemy
+            killable.dead = true;
+            Mappers.body.get(enemy).setEnabled(false);
+            // Don't draw dead enemies
+            Mappers.appearance.get(enemy).visible = false;
             // Give player a small bounce upward
-            player.getBody().applyLinearImpulse(new Vector2(0, 4f), player.getBody().getWorldCenter(), true);
-        }
-    }
-
-    private void handleBegin(Object primary, Object other) {
-        if (primary instanceof Player) {
-            Player player = (Player) primary;
-
-            if (other instanceof Platform) {
-                player.allowJump();
-                if (other instanceof VanishingPlatform) {
-                    ((VanishingPlatform) other).activate();
-                }
-                if (other instanceof ImpulsePlatform) {
-                    ((ImpulsePlatform) other).applyImpulseTo(player);
-                }
-            }
-
-            if (other instanceof Spike) {
-                // Trigger respawn when player hits spike
-                if (gameScreen != null) {
-                    gameScreen.triggerRespawn();
-                }
-            }
-
-            // Enemy body collision - return player to start of level
-            // Note: Head sensor collisions are handled separately in beginContact
-            if (other instanceof Enemy) {
-                Enemy enemy = (Enemy) other;
-                if (enemy != null && !enemy.isDead() && enemy.getBody() != null && enemy.getBody().isActive()) {
-                    // Player touched enemy body (not head) - return to start
-                    if (gameScreen != null) {
-                        gameScreen.triggerRespawn();
-                    }
-                }
-            }
-
-            if (other instanceof com.mygdx.gravity.entities.GravityZoneEntity) {
-                com.mygdx.gravity.entities.GravityZoneEntity zone = 
-                    (com.mygdx.gravity.entities.GravityZoneEntity) other;
-                gravity.set(zone.getDirection());
-            }
-
-            if (other instanceof com.mygdx.gravity.entities.TimeSlowZoneEntity) {
-                time.setSlow(true);
-            }
-
-            if (other instanceof com.mygdx.gravity.entities.FinishZone) {
-                // Level complete - go to next level or show victory screen
-                if (gameScreen != null) {
-                    gameScreen.queueLevelComplete();
-                }
-            }
+            Vector2 center = playerBody.getWorldCenter();
+            playerBody.applyLinearImpulse(0f, 4f, center.x, center.y, true);
         }
     }
 
     @Override
     public void endContact(Contact contact) {
-        Fixture a = contact.getFixtureA();
-        Fixture b = contact.getFixtureB();
-        Object ua = a.getUserData();
-        Object ub = b.getUserData();
-
-        handleEnd(ua, ub);
-        handleEnd(ub, ua);
-    }
-
-    private void handleEnd(Object primary, Object other) {
-        if (primary instanceof Player) {
-            Player player = (Player) primary;
-            if (other instanceof Platform) {
-                player.forbidJump();
-            }
-
-            if (other instanceof com.mygdx.gravity.entities.TimeSlowZoneEntity) {
-                time.setSlow(false);
-            }
+        FixtureData ua = (FixtureData) contact.getFixtureA().getUserData();
+        FixtureData ub = (FixtureData) contact.getFixtureB().getUserData();
+        if (ua == null || ub == null) {
+            return;
         }
+
+        events.push(ContactEventQueue.END, ua, ub);
     }
 
     @Override
@@ -0,0 +1,40 @@
+package com.mygdx.gravity.world;
+
+import com.badlogic.ashley.core.Entity;
+
+/**
+ * ContactDispatcher - contact handlers in a ContactType x ContactType matrix.
+ * A handler registered for (a, b) is also called for contacts reported as
+ * (b, a), with the entities swapped, so lookups are one array read per contact.
+ */
+public class ContactDispatcher {
+
+    /** Called with the entities in the order the handler was registered for. */
+    public interface Handler {
+        void handle(Entity a, Entity b);
+    }
+
+    private final Handler[] handlers = new Handler[ContactType.COUNT * ContactType.COUNT];
+
+    public void register(int typeA, int typeB, final Handler handler) {
+        handlers[typeA * ContactType.COUNT + typeB] = handler;
+        if (typeA != typeB) {
+            handlers[typeB * ContactType.COUNT + typeA] = new Handler() {
+                @Override
+                public void handle(Entity a, Entity b) {
+                    handler.handle(b, a);
+                }
+            };
+        }
+    }
+
+    /** Runs the handler for the pair, if any. Returns whether one was registered. */
+    public boolean dispatch(FixtureData a, FixtureData b) {
+        Handler handler = handlers[a.type * ContactType.COUNT + b.type];
+        if (handler == null) {
+            return false;
+        }
+        handler.handle(a.entity, b.entity);
+        return true;
+    }
+}
@@ -0,0 +1,96 @@
+package com.mygdx.gravity.world;
+
+/**
+ * ContactEventQueue - FIFO ring buffer of begin/end contact events, stored
+ * in parallel arrays that are allocated up front. It only grows (doubling)
+ * if a single step reports more events than it can hold.
+ */
+public class ContactEventQueue {
+    public static final int BEGIN = 0;
+    public static final int END = 1;
+
+    private int[] kinds;
+    private FixtureData[] firsts;
+    private FixtureData[] seconds;
+    private int mask;
+    private int head = 0;
+    private int size = 0;
+
+    /** Capacity is rounded up to a power of two. */
+    public ContactEventQueue(int capacity) {
+        int n = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        kinds = new int[n];
+        firsts = new FixtureData[n];
+        seconds = new FixtureData[n];
+        mask = n - 1;
+    }
+
+    public void push(int kind, FixtureData a, FixtureData b) {
+        if (size == kinds.length) {
+            grow();
+        }
+        int i = (head + size) & mask;
+        kinds[i] = kind;
+        firsts[i] = a;
+        seconds[i] = b;
+        size++;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return kinds.length;
+    }
+
+    /** Kind of the oldest event (BEGIN or END). */
+    public int kind() {
+        return kinds[head];
+    }
+
+    public FixtureData first() {
+        return firsts[head];
+    }
+
+    public FixtureData second() {
+        return seconds[head];
+    }
+
+    /** Drops the oldest event. */
+    public void pop() {
+        firsts[head] = null;
+        seconds[head] = null;
+        head = (head + 1) & mask;
+        size--;
+    }
+
+    public void clear() {
+        while (size > 0) {
+            pop();
+        }
+        head = 0;
+    }
+
+    private void grow() {
+        int n = kinds.length * 2;
+        int[] newKinds = new int[n];
+        FixtureData[] newFirsts = new FixtureData[n];
+        FixtureData[] newSeconds = new FixtureData[n];
+        for (int i = 0; i < size; i++) {
+            int j = (head + i) & mask;
+            newKinds[i] = kinds[j];
+            newFirsts[i] = firsts[j];
+            newSeconds[i] = seconds[j];
+        }
+        kinds = newKinds;
+        firsts = newFirsts;
+        seconds = newSeconds;
+        mask = n - 1;
+        head = 0;
+    }
+}
@@ -0,0 +1,23 @@
+package com.mygdx.gravity.world;
+
+/**
+ * Contact type ids of fixtures, used as indices into the ContactDispatcher
+ * matrix. Each fixture's user data is a FixtureData carrying one of these.
+ */
+public final class ContactType {
+    public static final int PLAYER = 0;
+    public static final int PLATFORM = 1;
+    public static final int VANISHING_PLATFORM = 2;
+    public static final int IMPULSE_PLATFORM = 3;
+    public static final int SPIKE = 4;
+    public static final int ENEMY = 5;
+    public static final int ENEMY_HEAD = 6; // stomp sensor on top of an enemy
+    public static final int BOX = 7;
+    public static final int GRAVITY_ZONE = 8;
+    public static final int TIME_SLOW_ZONE = 9;
+    public static final int FINISH = 10;
+    public static final int COUNT = 11;
+
+    private ContactType() {
+    }
+}
@@ -0,0 +1,14 @@
+package com.mygdx.gravity.world;
+
+import com.badlogic.ashley.core.Entity;
+
+/** Fixture user data: the contact type of the fixture and the entity owning it. */
+public class FixtureData {
+    public final int type;
+    public final Entity entity;
+
+    public FixtureData(int type, Entity entity) {
+        this.type = type;
+        this.entity = entity;
+    }
+}
@@ -7,6 +7,10 @@ import com.mygdx.gravity.utils.Constants;
 public class PhysicsWorld {
     private final World world;
 
+    // Fixed timestep accumulator
+    private float accumulator = 0f;
+    private int maxSubSteps = Constants.PHYSICS_MAX_SUBSTEPS;
+
     public PhysicsWorld() {
         world = new World(new Vector2(0, -Constants.WORLD_GRAVITY), true);
     }
@@ -14,7 +18,38 @@ public class PhysicsWorld {
     public World getWorld() { return world; }
 
     public void step(float delta, float timeScale) {
-        world.step(delta * timeScale, 6, 2);
+        world.step(delta * timeScale, Constants.VELOCITY_ITERATIONS, Constants.POSITION_ITERATIONS);
+    }
+
+    /**
+     * Adds frame time to the accumulator and returns how many fixed steps
+     * should be run this frame. At most maxSubSteps are returned; time beyond
+     * the cap is dropped so one long frame can't snowball into the next.
+     */
+    public int accumulate(float frameDelta) {
+        accumulator += frameDelta;
+        int steps = (int) (accumulator / Constants.PHYSICS_TIME_STEP);
+        if (steps > maxSubSteps) {
+            steps = maxSubSteps;
+            accumulator = accumulator % Constants.PHYSICS_TIME_STEP;
+        } else {
+            accumulator -= steps * Constants.PHYSICS_TIME_STEP;
+        }
+        return steps;
+    }
+
+    /**
+     * Fraction of a fixed step left in the accumulator, used to interpolate
+     * between the previous and current body transforms when rendering.
+     */
+    public float getAlpha() {
+        return accumulator / Constants.PHYSICS_TIME_STEP;
+    }
+
+    public int getMaxSubSteps() { return maxSubSteps; }
+
+    public void setMaxSubSteps(int maxSubSteps) {
+        this.maxSubSteps = Math.max(1, maxSubSteps);
     }
 
     public void dispose() {
@@ -1,9 +1,9 @@
 package com.mygdx.gravity.zones;
 
-import com.mygdx.gravity.entities.Player;
+import com.badlogic.ashley.core.Entity;
 
 public abstract class ChallengeZone {
-    public abstract void onEnter(Player player);
-    public abstract void onExit(Player player);
+    public abstract void onEnter(Entity player);
+    public abstract void onExit(Entity player);
     public void update(float delta) {}
 }
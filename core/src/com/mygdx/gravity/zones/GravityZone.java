@@ -1,6 +1,6 @@
 package com.mygdx.gravity.zones;
 
-import com.mygdx.gravity.entities.Player;
+import com.badlogic.ashley.core.Entity;
 import com.mygdx.gravity.mechanics.GravityDirection;
 import com.mygdx.gravity.mechanics.GravityManager;
 
@@ -15,12 +15,12 @@ public class GravityZone extends ChallengeZone {
     }
 
     @Override
-    public void onEnter(Player player) {
+    public void onEnter(Entity player) {
         gravity.set(direction);
     }
 
     @Override
-    public void onExit(Player player) {
+    public void onExit(Entity player) {
         gravity.set(GravityDirection.DOWN);
     }
 }
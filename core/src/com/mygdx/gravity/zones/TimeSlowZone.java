@@ -1,6 +1,6 @@
 package com.mygdx.gravity.zones;
 
-import com.mygdx.gravity.entities.Player;
+import com.badlogic.ashley.core.Entity;
 import com.mygdx.gravity.mechanics.TimeManager;
 
 public class TimeSlowZone extends ChallengeZone {
@@ -9,8 +9,8 @@ public class TimeSlowZone extends ChallengeZone {
     public TimeSlowZone(TimeManager time) { this.time = time; }
 
     @Override
-    public void onEnter(Player player) { time.slow(); }
+    public void onEnter(Entity player) { time.slow(); }
 
     @Override
-    public void onExit(Player player) { time.reset(); }
+    public void onExit(Entity player) { time.reset(); }
 }
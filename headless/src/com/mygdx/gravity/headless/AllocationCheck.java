@@ -0,0 +1,86 @@
+package com.mygdx.gravity.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.mygdx.gravity.levels.LevelManager;
+import com.mygdx.gravity.simulation.GameSimulation;
+import com.mygdx.gravity.simulation.InputScript;
+import com.mygdx.gravity.utils.Constants;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Fails if the simulation allocates in steady state. Usage: AllocationCheck [ticks]
+ * Each level is warmed up first (JIT, pools, contact buffers), then run for the
+ * given number of ticks while the thread's allocated bytes are measured; the
+ * process exits with status 1 if any level allocated anything over those ticks.
+ * Input is recorded as GameScreen records it. Run with
+ * -XX:-BackgroundCompilation (as the allocationCheck task does) so no method is
+ * still being compiled once the warmup is over.
+ */
+public class AllocationCheck {
+    private static final int DEFAULT_TICKS = 60 * 60;
+    private static final int WARMUP_TICKS = 60 * 60 * 5;
+
+    public static void main(String[] args) {
+        final int ticks = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TICKS;
+        final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                Box2D.init();
+                LevelManager levels = new LevelManager();
+                int failures = 0;
+                long thread = Thread.currentThread().getId();
+                InputScript script = HeadlessLauncher.defaultScript(0);
+                InputScript recording = new InputScript(Constants.RECORDING_SEGMENTS);
+
+                // Cost of the measurement itself, subtracted from every reading
+                long overhead = threads.getThreadAllocatedBytes(thread);
+                overhead = threads.getThreadAllocatedBytes(thread) - overhead;
+
+                for (int i = 0; i < levels.count(); i++) {
+                    GameSimulation simulation = new GameSimulation();
+                    simulation.loadLevel(levels.get(i));
+                    recording.clear();
+                    simulation.setRecording(recording);
+                    // The default script is periodic, so looping it keeps the level busy
+                    int tick = 0;
+                    for (int t = 0; t < WARMUP_TICKS; t++) {
+                        step(simulation, script, tick++);
+                    }
+
+                    long before = threads.getThreadAllocatedBytes(thread);
+                    for (int t = 0; t < ticks; t++) {
+                        step(simulation, script, tick++);
+                    }
+                    long allocated = threads.getThreadAllocatedBytes(thread) - before - overhead;
+                    simulation.dispose();
+
+                    double perTick = (double) allocated / ticks;
+                    boolean ok = allocated <= 0;
+                    if (!ok) failures++;
+                    Gdx.app.log("Allocation", "level=" + (i + 1) + " ticks=" + ticks
+                        + " bytes=" + allocated + " bytes/tick=" + perTick + (ok ? " OK" : " FAIL"));
+                }
+                // create() runs on the application thread, so the verdict is reported from here
+                if (failures > 0) System.exit(1);
+                Gdx.app.exit();
+            }
+        }, config);
+    }
+
+    private static void step(GameSimulation simulation, InputScript script, int tick) {
+        if (!simulation.tick(script.inputAt(tick % script.length()))) {
+            // Finished the level: go again from the start, as a player would
+            simulation.restart();
+            simulation.getRecording().clear();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.mygdx.gravity.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.mygdx.gravity.levels.LevelManager;
+import com.mygdx.gravity.simulation.InputScript;
+import com.mygdx.gravity.simulation.LevelRunner;
+import com.mygdx.gravity.simulation.ParallelLevelRunner;
+import com.mygdx.gravity.simulation.PlayerInput;
+import com.mygdx.gravity.simulation.Replay;
+import com.mygdx.gravity.simulation.RunResult;
+
+/**
+ * Runs levels without a GL context. Usage: HeadlessLauncher [level] [ticks] [runs]
+ * (level is 1-based, 0 or missing runs every level; runs > 1 runs that many
+ * simulations of each level in parallel, one per core), or
+ * HeadlessLauncher --replay file [repeat] to re-simulate a recorded session.
+ */
+public class HeadlessLauncher {
+    private static final int DEFAULT_TICKS = 60 * 60;
+
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--replay")) {
+            replay(args[1], args.length > 2 ? Integer.parseInt(args[2]) : 1);
+            return;
+        }
+        final int level = args.length > 0 ? Integer.parseInt(args[0]) : 0;
+        final int ticks = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TICKS;
+        final int runs = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // no render loop, everything runs in create()
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                Box2D.init();
+                LevelManager levels = new LevelManager();
+                int[] spikeSize = spikeTextureSize();
+
+                int first = level > 0 ? level - 1 : 0;
+                int last = level > 0 ? level - 1 : levels.count() - 1;
+                if (runs > 1) {
+                    runParallel(levels, first, last, spikeSize);
+                } else {
+                    LevelRunner runner = new LevelRunner().setSpikeTextureSize(spikeSize[0], spikeSize[1]);
+                    for (int i = first; i <= last; i++) {
+                        RunResult result = runner.run(i, levels.get(i), defaultScript(0), ticks);
+                        Gdx.app.log("Headless", result.toString());
+                    }
+                }
+                Gdx.app.exit();
+            }
+
+            private void runParallel(LevelManager levels, int first, int last, int[] spikeSize) {
+                ParallelLevelRunner runner = new ParallelLevelRunner()
+                    .setSpikeTextureSize(spikeSize[0], spikeSize[1]);
+                InputScript[] scripts = new InputScript[runs];
+                for (int r = 0; r < runs; r++) {
+                    scripts[r] = defaultScript(r);
+                }
+                for (int i = first; i <= last; i++) {
+                    long start = System.nanoTime();
+                    RunResult[] results = runner.runBatch(i, levels.get(i), scripts, ticks);
+                    long elapsed = System.nanoTime() - start;
+
+                    long totalTicks = 0;
+                    int completed = 0;
+                    for (RunResult result : results) {
+                        totalTicks += result.ticks;
+                        if (result.completed) completed++;
+                    }
+                    Gdx.app.log("Headless", "level=" + (i + 1) + " runs=" + runs
+                        + " threads=" + runner.getThreads()
+                        + " completed=" + completed
+                        + " ticks/s=" + (long) (totalTicks * 1e9 / elapsed));
+                }
+                runner.dispose();
+            }
+        }, config);
+    }
+
+    /**
+     * Re-simulates a replay file as fast as possible, repeat times (the
+     * result is the same every time; repeats are for timing).
+     */
+    private static void replay(final String path, final int repeat) {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                Box2D.init();
+                LevelManager levels = new LevelManager();
+                int[] spikeSize = spikeTextureSize();
+                Replay replay = Replay.load(Gdx.files.absolute(new java.io.File(path).getAbsolutePath()));
+
+                LevelRunner runner = new LevelRunner().setSpikeTextureSize(spikeSize[0], spikeSize[1]);
+                for (int i = 0; i < repeat; i++) {
+                    RunResult result = runner.run(levels.get(replay.levelIndex), replay);
+                    Gdx.app.log("Replay", result.toString());
+                }
+                Gdx.app.exit();
+            }
+        }, config);
+    }
+
+    /** Runs right and jumps twice a second; variant shifts the first jump by that many ticks. */
+    static InputScript defaultScript(int variant) {
+        InputScript script = new InputScript();
+        script.hold(PlayerInput.RIGHT, variant % 30);
+        for (int i = 0; i < 120; i++) {
+            script.jump(PlayerInput.RIGHT).hold(PlayerInput.RIGHT, 29);
+        }
+        return script;
+    }
+
+    private static int[] spikeTextureSize() {
+        FileHandle spike = Gdx.files.internal("spike.png");
+        if (!spike.exists()) return new int[] {0, 0};
+        Pixmap pixmap = new Pixmap(spike);
+        int[] size = {pixmap.getWidth(), pixmap.getHeight()};
+        pixmap.dispose();
+        return size;
+    }
+}
@@ -0,0 +1,46 @@
+package com.mygdx.gravity.headless;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.mygdx.gravity.levels.CompiledLevel;
+import com.mygdx.gravity.levels.LevelManager;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * LevelCompiler - compiles every level in levels/levels.json to the binary
+ * file the game loads (see CompiledLevel), with spike hitboxes fitted to
+ * spike.png. Needs no running application or natives; gradlew
+ * headless:compileLevels runs it from the assets directory.
+ */
+public class LevelCompiler {
+    private static final long PNG_SIGNATURE = 0x89504e470d0a1a0aL;
+
+    public static void main(String[] args) throws IOException {
+        File assets = new File(args.length > 0 ? args[0] : ".");
+        LevelManager levels = new LevelManager(new FileHandle(new File(assets, LevelManager.DIRECTORY)));
+        int[] spikeSize = pngSize(new File(assets, "spike.png"));
+
+        for (int i = 0; i < levels.count(); i++) {
+            CompiledLevel level = CompiledLevel.compile(levels.get(i), spikeSize[0], spikeSize[1]);
+            FileHandle file = levels.getCompiledFile(i);
+            try (OutputStream out = file.write(false)) {
+                level.write(out);
+            }
+            System.out.println("[LevelCompiler] " + file.path() + " " + file.length() + " bytes");
+        }
+    }
+
+    /** Width and height from a PNG's header, or 0 x 0 if the file is missing or not a PNG. */
+    private static int[] pngSize(File file) throws IOException {
+        if (!file.exists()) return new int[] {0, 0};
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            if (in.readLong() != PNG_SIGNATURE) return new int[] {0, 0};
+            in.skipBytes(8); // IHDR length and type
+            return new int[] {in.readInt(), in.readInt()};
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.mygdx.gravity.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.mygdx.gravity.levels.LevelData;
+import com.mygdx.gravity.levels.LevelManager;
+import com.mygdx.gravity.simulation.InputScript;
+import com.mygdx.gravity.simulation.LevelRunner;
+import com.mygdx.gravity.simulation.ParallelLevelRunner;
+import com.mygdx.gravity.simulation.RunResult;
+
+/**
+ * Fails if simulations built at the same time come out different from ones
+ * built one by one. Usage: ParallelCheck [copies] [runs]
+ * Every level is tiled copies times, so that it has well over 32 NORMAL
+ * platforms and PlatformMerger sorts them the way it would sort a large level.
+ * Each tiled level is run once per script on a ParallelLevelRunner, with many
+ * levels loading at once. Every result must match a run of the same script on
+ * this thread, and no run may throw; otherwise the process exits with status 1.
+ */
+public class ParallelCheck {
+    private static final int DEFAULT_COPIES = 10;
+    // Several workers even on a single core, whose time slices interleave them too
+    private static final int MIN_THREADS = 8;
+    // Short runs, so most of the time goes into building the levels
+    private static final int TICKS = 60 * 5;
+
+    public static void main(String[] args) {
+        final int copies = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COPIES;
+        final int threads = Math.max(MIN_THREADS, Runtime.getRuntime().availableProcessors());
+        final int runs = args.length > 1 ? Integer.parseInt(args[1]) : threads * 8;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1;
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                Box2D.init();
+                LevelManager levels = new LevelManager();
+                ParallelLevelRunner runner = new ParallelLevelRunner(threads);
+                LevelRunner serial = new LevelRunner();
+                InputScript[] scripts = new InputScript[runs];
+                for (int r = 0; r < runs; r++) {
+                    scripts[r] = HeadlessLauncher.defaultScript(r);
+                }
+
+                int failures = 0;
+                for (int i = 0; i < levels.count(); i++) {
+                    LevelData level = levels.get(i).tiled(copies);
+                    int mismatches = 0;
+                    try {
+                        RunResult[] results = runner.runBatch(i, level, scripts, TICKS);
+                        for (int r = 0; r < runs; r++) {
+                            if (!same(results[r], serial.run(i, level, scripts[r], TICKS))) mismatches++;
+                        }
+                    } catch (GdxRuntimeException e) {
+                        Gdx.app.error("Parallel", "level=" + (i + 1) + " run failed", e);
+                        mismatches = runs;
+                    }
+                    boolean ok = mismatches == 0;
+                    if (!ok) failures++;
+                    Gdx.app.log("Parallel", "level=" + (i + 1) + " copies=" + copies + " platforms="
+                        + level.platforms.length + " runs=" + runs + " threads=" + runner.getThreads()
+                        + " mismatches=" + mismatches + (ok ? " OK" : " FAIL"));
+                }
+                runner.dispose();
+                // create() runs on the application thread, so the verdict is reported from here
+                if (failures > 0) System.exit(1);
+                Gdx.app.exit();
+            }
+        }, config);
+    }
+
+    private static boolean same(RunResult a, RunResult b) {
+        return a.ticks == b.ticks && a.completed == b.completed && a.deaths == b.deaths
+            && a.playerX == b.playerX && a.playerY == b.playerY;
+    }
+}